@@ -0,0 +1,54 @@
+package wooteco.subway.path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 큰 격자 노선도에서 k 개의 대안 경로를 찾는 데 걸리는 시간.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AlternativePathBenchmark {
+    private static final int QUERY_COUNT = 256;
+
+    @Param({"100"})
+    private int side;
+
+    @Param({"3", "5"})
+    private int k;
+
+    private AlternativePathFinder finder;
+    private int[] sources;
+    private int[] targets;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SubwayGraph graph = GeneratedNetwork.grid(side, 42);
+        finder = new AlternativePathFinder(graph);
+        Random random = new Random(7);
+        sources = new int[QUERY_COUNT];
+        targets = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = random.nextInt(graph.size());
+            targets[i] = random.nextInt(graph.size());
+        }
+    }
+
+    @Benchmark
+    public List<GraphPath> find() {
+        int query = cursor++ & (QUERY_COUNT - 1);
+        return finder.find(sources[query], targets[query], k);
+    }
+}
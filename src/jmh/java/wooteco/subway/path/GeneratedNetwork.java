@@ -0,0 +1,45 @@
+package wooteco.subway.path;
+
+import wooteco.subway.line.Section;
+import wooteco.subway.station.Station;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 격자 모양 노선도. 가로줄과 세로줄이 각각 하나의 노선이고, 일부 역 사이에 급행 구간을 더한다.
+ */
+public class GeneratedNetwork {
+    private GeneratedNetwork() {
+    }
+
+    public static SubwayGraph grid(int side, long seed) {
+        Random random = new Random(seed);
+        int size = side * side;
+        List<Station> stations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            stations.add(new Station((long) i + 1, "역" + i));
+        }
+        List<Section> sections = new ArrayList<>();
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                long id = (long) row * side + column + 1;
+                if (column + 1 < side) {
+                    sections.add(new Section(id, id + 1, 1 + random.nextInt(10)));
+                }
+                if (row + 1 < side) {
+                    sections.add(new Section(id, id + side, 1 + random.nextInt(10)));
+                }
+            }
+        }
+        for (int i = 0; i < size / 50; i++) {
+            long up = 1 + random.nextInt(size);
+            long down = 1 + random.nextInt(size);
+            if (up != down) {
+                sections.add(new Section(up, down, 20 + random.nextInt(30)));
+            }
+        }
+        return SubwayGraph.of(stations, sections);
+    }
+}
@@ -0,0 +1,64 @@
+package wooteco.subway.path;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기준역 개수에 따른 ALT 질의 시간과 힙에서 꺼낸 정점 수.
+ * 기준역이 0개면 하한이 항상 0 이므로 도착역에서 멈추는 일반 다익스트라와 같다.
+ * settled 보조 카운터를 질의 횟수로 나누면 질의 한 번에 꺼낸 정점 수가 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LandmarkPathBenchmark {
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"100"})
+    private int side;
+
+    @Param({"0", "4", "8", "16"})
+    private int landmarkCount;
+
+    private LandmarkPathEngine engine;
+    private int[] sources;
+    private int[] targets;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SubwayGraph graph = GeneratedNetwork.grid(side, 42);
+        engine = LandmarkPathEngine.of(graph, landmarkCount);
+        Random random = new Random(7);
+        sources = new int[QUERY_COUNT];
+        targets = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = random.nextInt(graph.size());
+            targets[i] = random.nextInt(graph.size());
+        }
+    }
+
+    @Benchmark
+    public GraphPath find(SettledCounter counter) {
+        int query = cursor++ & (QUERY_COUNT - 1);
+        GraphPath path = engine.find(sources[query], targets[query]);
+        counter.settled += engine.lastSettledCount();
+        return path;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SettledCounter {
+        public long settled;
+    }
+}
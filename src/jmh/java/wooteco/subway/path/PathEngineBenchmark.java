@@ -0,0 +1,57 @@
+package wooteco.subway.path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 탐색 방식별 질의 지연 시간 비교. 출발역과 도착역은 미리 뽑아 둔 임의의 쌍을 돌아가며 쓴다.
+ * APSP 는 AllPairsPathEngine.MAX_STATIONS 를 넘으면 CH 로 대신하므로, 모든 방식을 같은 조건에서 재도록 그 안의 크기만 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathEngineBenchmark {
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"32", "44"})
+    private int side;
+
+    @Param({"DIJKSTRA", "CH", "APSP"})
+    private PathEngineType engineType;
+
+    private PathEngine engine;
+    private int[] sources;
+    private int[] targets;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SubwayGraph graph = GeneratedNetwork.grid(side, 42);
+        engine = engineType.create(graph);
+        if (engineType == PathEngineType.APSP && !(engine instanceof AllPairsPathEngine)) {
+            throw new IllegalStateException("APSP 대신 다른 방식으로 만들어졌습니다. (역 수: " + graph.size() + ")");
+        }
+        Random random = new Random(7);
+        sources = new int[QUERY_COUNT];
+        targets = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = random.nextInt(graph.size());
+            targets[i] = random.nextInt(graph.size());
+        }
+    }
+
+    @Benchmark
+    public GraphPath find() {
+        int query = cursor++ & (QUERY_COUNT - 1);
+        return engine.find(sources[query], targets[query]);
+    }
+}
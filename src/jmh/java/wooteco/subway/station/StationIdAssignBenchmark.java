@@ -0,0 +1,39 @@
+package wooteco.subway.station;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StationDao 저장 시 아이디를 부여하는 방식 비교.
+ * reflection: 기존 createNewObject 와 같이 매 저장마다 필드를 찾아 리플렉션으로 설정한다.
+ * withId: Station.withId 로 아이디가 부여된 새 객체를 생성한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StationIdAssignBenchmark {
+    private long seq;
+
+    @Benchmark
+    public Station reflection() {
+        Station station = new Station("강남역");
+        Field field = ReflectionUtils.findField(Station.class, "id");
+        field.setAccessible(true);
+        ReflectionUtils.setField(field, station, ++seq);
+        return station;
+    }
+
+    @Benchmark
+    public Station withId() {
+        Station station = new Station("강남역");
+        return station.withId(++seq);
+    }
+}
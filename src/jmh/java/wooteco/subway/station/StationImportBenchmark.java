@@ -0,0 +1,98 @@
+package wooteco.subway.station;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 노선도 전체 지하철역을 한 건씩 저장할 때와 saveAll 로 한 번에 저장할 때의 처리량 비교.
+ * JdbcStationDao 를 스프링 밖에서 만들기 때문에 @Transactional 대신 TransactionTemplate 으로 트랜잭션을 연다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StationImportBenchmark {
+    @Param({"memory", "jdbc"})
+    private String store;
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private StationDao stationDao;
+    private List<Station> stations;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        stations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            stations.add(new Station("역" + i));
+        }
+        if ("jdbc".equals(store)) {
+            database = new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .addScript("schema.sql")
+                    .build();
+            jdbcTemplate = new JdbcTemplate(database);
+            transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        if ("jdbc".equals(store)) {
+            jdbcTemplate.update("DELETE FROM station");
+            stationDao = new JdbcStationDao(jdbcTemplate);
+            return;
+        }
+        stationDao = new InMemoryStationDao();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (database != null) {
+            database.shutdown();
+        }
+    }
+
+    @Benchmark
+    public int saveOneByOne() {
+        for (Station station : stations) {
+            inTransaction(() -> stationDao.save(station));
+        }
+        return stations.size();
+    }
+
+    @Benchmark
+    public int saveAll() {
+        return inTransaction(() -> stationDao.saveAll(stations)).size();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        if (transactionTemplate == null) {
+            return action.get();
+        }
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
@@ -0,0 +1,56 @@
+package wooteco.subway.station;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /stations 응답 본문을 매번 직렬화할 때와 캐시된 바이트를 쓸 때의 지연 시간 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StationListBenchmark {
+    @Param({"1000", "10000"})
+    private int size;
+
+    private StationDao stationDao;
+    private StationJsonWriter stationJsonWriter;
+    private StationCatalog stationCatalog;
+
+    @Setup
+    public void setUp() {
+        stationDao = new InMemoryStationDao();
+        for (int i = 0; i < size; i++) {
+            stationDao.save(new Station("역" + i));
+        }
+        stationJsonWriter = new StationJsonWriter(new ObjectMapper());
+        stationCatalog = new StationCatalog(stationDao.version(), stationDao::findAll, stationJsonWriter);
+        stationCatalog.getJson();
+    }
+
+    @Benchmark
+    public int uncached() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        stationJsonWriter.write(stationDao.findAll(), outputStream);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int cached() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] body = stationCatalog.getJson();
+        outputStream.write(body, 0, body.length);
+        return outputStream.size();
+    }
+}
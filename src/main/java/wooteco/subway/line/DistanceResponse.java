@@ -0,0 +1,28 @@
+package wooteco.subway.line;
+
+public class DistanceResponse {
+    private Long source;
+    private Long target;
+    private int distance;
+
+    public DistanceResponse() {
+    }
+
+    public DistanceResponse(Long source, Long target, int distance) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
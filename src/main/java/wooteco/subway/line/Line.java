@@ -0,0 +1,48 @@
+package wooteco.subway.line;
+
+public class Line {
+    private Long id;
+    private String name;
+    private String color;
+    private int extraFare;
+    private Sections sections;
+
+    public Line() {
+    }
+
+    public Line(Long id, String name, String color, int extraFare, Sections sections) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.extraFare = extraFare;
+        this.sections = sections;
+    }
+
+    public Line(String name, String color, int extraFare, Sections sections) {
+        this(null, name, color, extraFare, sections);
+    }
+
+    public Line withId(Long id) {
+        return new Line(id, name, color, extraFare, sections);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public Sections getSections() {
+        return sections;
+    }
+}
@@ -0,0 +1,97 @@
+package wooteco.subway.line;
+
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+public class LineDao {
+    private final AtomicLong seq = new AtomicLong();
+    private final ConcurrentNavigableMap<Long, Line> lines = new ConcurrentSkipListMap<>();
+    private final Map<String, Line> linesByName = new ConcurrentHashMap<>();
+
+    public Line save(Line line) {
+        Line persistLine = line.withId(seq.incrementAndGet());
+        if (linesByName.putIfAbsent(persistLine.getName(), persistLine) != null) {
+            throw duplicateName(line.getName());
+        }
+        lines.put(persistLine.getId(), persistLine);
+        return persistLine;
+    }
+
+    public List<Line> findAll() {
+        return new ArrayList<>(lines.values());
+    }
+
+    public Optional<Line> findById(Long id) {
+        return Optional.ofNullable(lines.get(id));
+    }
+
+    public synchronized void update(Line line) {
+        Line oldLine = lines.get(line.getId());
+        if (oldLine == null) {
+            throw notFound(line.getId());
+        }
+        if (!oldLine.getName().equals(line.getName()) && linesByName.putIfAbsent(line.getName(), line) != null) {
+            throw duplicateName(line.getName());
+        }
+        linesByName.remove(oldLine.getName(), oldLine);
+        linesByName.put(line.getName(), line);
+        lines.put(line.getId(), line);
+    }
+
+    public synchronized void deleteById(Long id) {
+        Line line = lines.remove(id);
+        if (line == null) {
+            throw notFound(id);
+        }
+        linesByName.remove(line.getName(), line);
+    }
+
+    public void addSection(Long lineId, Section section) {
+        findLine(lineId).getSections()
+                .add(section.getUpStationId(), section.getDownStationId(), section.getDistance());
+    }
+
+    public void removeSection(Long lineId, Long stationId) {
+        findLine(lineId).getSections().remove(stationId);
+    }
+
+    public boolean isRegistered(Long stationId) {
+        return lines.values().stream()
+                .anyMatch(line -> line.getSections().contains(stationId));
+    }
+
+    public synchronized void removeStation(Long stationId) {
+        List<Sections> registered = lines.values().stream()
+                .map(Line::getSections)
+                .filter(sections -> sections.contains(stationId))
+                .collect(Collectors.toList());
+        registered.forEach(sections -> sections.validateRemovable(stationId));
+        registered.forEach(sections -> sections.remove(stationId));
+    }
+
+    private Line findLine(Long id) {
+        Line line = lines.get(id);
+        if (line == null) {
+            throw notFound(id);
+        }
+        return line;
+    }
+
+    private IllegalArgumentException duplicateName(String name) {
+        return new IllegalArgumentException("이미 존재하는 노선 이름입니다. (name: " + name + ")");
+    }
+
+    private IllegalArgumentException notFound(Long id) {
+        return new IllegalArgumentException("존재하지 않는 노선입니다. (id: " + id + ")");
+    }
+}
@@ -0,0 +1,44 @@
+package wooteco.subway.line;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 노선의 구간으로 만든 누적 거리 배열. 만든 뒤에는 바뀌지 않으므로 잠금 없이 두 역 사이의 거리를 O(1) 에 답한다.
+ */
+public class LineDistances {
+    private final Map<Long, Integer> positions;
+    private final int[] cumulativeDistances;
+
+    private LineDistances(Map<Long, Integer> positions, int[] cumulativeDistances) {
+        this.positions = positions;
+        this.cumulativeDistances = cumulativeDistances;
+    }
+
+    /**
+     * sections 는 상행 종점부터 차례로 이어진 구간이어야 한다. (Sections.sections 의 순서)
+     */
+    public static LineDistances of(List<Section> sections) {
+        Map<Long, Integer> positions = new HashMap<>();
+        int[] cumulativeDistances = new int[sections.size() + 1];
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            positions.put(section.getUpStationId(), i);
+            cumulativeDistances[i + 1] = cumulativeDistances[i] + section.getDistance();
+        }
+        if (!sections.isEmpty()) {
+            positions.put(sections.get(sections.size() - 1).getDownStationId(), sections.size());
+        }
+        return new LineDistances(positions, cumulativeDistances);
+    }
+
+    public int distance(Long sourceStationId, Long targetStationId) {
+        Integer source = positions.get(sourceStationId);
+        Integer target = positions.get(targetStationId);
+        if (source == null || target == null) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 지하철역입니다.");
+        }
+        return Math.abs(cumulativeDistances[target] - cumulativeDistances[source]);
+    }
+}
@@ -6,16 +6,23 @@ public class LineRequest {
     private Long upStationId;
     private Long downStationId;
     private int distance;
+    // 수정 요청에서 빠지면 null 이고, 그때는 기존 추가 요금을 그대로 둔다.
+    private Integer extraFare;
 
     public LineRequest() {
     }
 
     public LineRequest(String name, String color, Long upStationId, Long downStationId, int distance) {
+        this(name, color, upStationId, downStationId, distance, 0);
+    }
+
+    public LineRequest(String name, String color, Long upStationId, Long downStationId, int distance, int extraFare) {
         this.name = name;
         this.color = color;
         this.upStationId = upStationId;
         this.downStationId = downStationId;
         this.distance = distance;
+        this.extraFare = extraFare;
     }
 
     public String getName() {
@@ -37,4 +44,8 @@ public class LineRequest {
     public int getDistance() {
         return distance;
     }
+
+    public Integer getExtraFare() {
+        return extraFare;
+    }
 }
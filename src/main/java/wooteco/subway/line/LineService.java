@@ -0,0 +1,135 @@
+package wooteco.subway.line;
+
+import org.springframework.stereotype.Service;
+import wooteco.subway.map.NetworkSnapshots;
+import wooteco.subway.station.Station;
+import wooteco.subway.station.StationResponse;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class LineService {
+    private final LineDao lineDao;
+    private final NetworkSnapshots networkSnapshots;
+
+    public LineService(LineDao lineDao, NetworkSnapshots networkSnapshots) {
+        this.lineDao = lineDao;
+        this.networkSnapshots = networkSnapshots;
+    }
+
+    public LineResponse createLine(LineRequest lineRequest) {
+        validateNameAndColor(lineRequest);
+        validateExtraFare(lineRequest.getExtraFare());
+        return networkSnapshots.writeLines(() -> {
+            Station upStation = findStationById(lineRequest.getUpStationId());
+            Station downStation = findStationById(lineRequest.getDownStationId());
+            Sections sections = new Sections(upStation.getId(), downStation.getId(), lineRequest.getDistance());
+            int extraFare = lineRequest.getExtraFare() == null ? 0 : lineRequest.getExtraFare();
+            Line line = lineDao.save(new Line(lineRequest.getName(), lineRequest.getColor(), extraFare, sections));
+            return new LineResponse(line.getId(), line.getName(), line.getColor(), line.getExtraFare(),
+                    Arrays.asList(toStationResponse(upStation), toStationResponse(downStation)));
+        });
+    }
+
+    public List<LineResponse> findLines() {
+        return networkSnapshots.current().getLineResponses();
+    }
+
+    public LineResponse findLine(Long id) {
+        return networkSnapshots.current().findLineResponse(id)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    public void updateLine(Long id, LineRequest lineRequest) {
+        validateNameAndColor(lineRequest);
+        validateExtraFare(lineRequest.getExtraFare());
+        networkSnapshots.writeLines(() -> {
+            Line line = findLineById(id);
+            int extraFare = lineRequest.getExtraFare() == null ? line.getExtraFare() : lineRequest.getExtraFare();
+            lineDao.update(new Line(id, lineRequest.getName(), lineRequest.getColor(), extraFare,
+                    line.getSections()));
+        });
+    }
+
+    public void deleteLine(Long id) {
+        networkSnapshots.writeLines(() -> lineDao.deleteById(id));
+    }
+
+    public void addSection(Long lineId, SectionRequest sectionRequest) {
+        networkSnapshots.writeLines(() -> {
+            Line line = findLineById(lineId);
+            Station upStation = findStationById(sectionRequest.getUpStationId());
+            Station downStation = findStationById(sectionRequest.getDownStationId());
+            lineDao.addSection(line.getId(), new Section(upStation.getId(), downStation.getId(),
+                    sectionRequest.getDistance()));
+        });
+    }
+
+    public void removeSection(Long lineId, Long stationId) {
+        networkSnapshots.writeLines(() -> lineDao.removeSection(lineId, stationId));
+    }
+
+    public int distance(Long lineId, Long sourceStationId, Long targetStationId) {
+        return networkSnapshots.current().findLineDistances(lineId)
+                .orElseThrow(() -> notFound(lineId))
+                .distance(sourceStationId, targetStationId);
+    }
+
+    /**
+     * 어느 노선에도 없는 역이면 노선을 건드리지 않으므로 그래프와 경로 캐시도 그대로 둔다.
+     */
+    public void removeStationFromLines(Long stationId) {
+        if (!lineDao.isRegistered(stationId)) {
+            return;
+        }
+        networkSnapshots.writeLines(() -> lineDao.removeStation(stationId));
+    }
+
+    private Line findLineById(Long id) {
+        return lineDao.findById(id)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    private IllegalArgumentException notFound(Long id) {
+        return new IllegalArgumentException("존재하지 않는 노선입니다. (id: " + id + ")");
+    }
+
+    private void validateNameAndColor(LineRequest lineRequest) {
+        if (isBlank(lineRequest.getName())) {
+            throw new IllegalArgumentException("노선 이름은 비어 있을 수 없습니다.");
+        }
+        if (isBlank(lineRequest.getColor())) {
+            throw new IllegalArgumentException("노선 색상은 비어 있을 수 없습니다.");
+        }
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private void validateExtraFare(Integer extraFare) {
+        if (extraFare != null && extraFare < 0) {
+            throw new IllegalArgumentException("추가 요금은 0 이상이어야 합니다. (extraFare: " + extraFare + ")");
+        }
+    }
+
+    /**
+     * writeLines 안에서 부른다. 이 인스턴스의 역 쓰기는 같은 잠금을 기다리므로 확인한 역이 그 사이 지워지지 않는다.
+     */
+    private Station findStationById(Long stationId) {
+        if (stationId == null) {
+            throw stationNotFound(null);
+        }
+        return networkSnapshots.stationCatalog().findById(stationId)
+                .orElseThrow(() -> stationNotFound(stationId));
+    }
+
+    private IllegalArgumentException stationNotFound(Long stationId) {
+        return new IllegalArgumentException("존재하지 않는 지하철역입니다. (id: " + stationId + ")");
+    }
+
+    private StationResponse toStationResponse(Station station) {
+        return new StationResponse(station.getId(), station.getName());
+    }
+}
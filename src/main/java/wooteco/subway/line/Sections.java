@@ -0,0 +1,201 @@
+package wooteco.subway.line;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노선의 구간을 상행 종점부터 하행 종점까지 이어진 역의 이중 연결 리스트로 관리한다.
+ * 역 아이디로 노드를 바로 찾을 수 있어 구간 추가와 역 제거(양옆 구간 병합)가 노선 길이와 상관없이 O(1) 이다.
+ * 순서대로 나열한 역 목록과 누적 거리 배열은 변경 후 처음 조회할 때 다시 만들고, 변경될 때마다 version 을 올린다.
+ */
+public class Sections {
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private Node head;
+    private Node tail;
+    private int version;
+    private List<Long> stationIds;
+    private Map<Long, Integer> positions;
+    private int[] cumulativeDistances;
+
+    public Sections(Long upStationId, Long downStationId, int distance) {
+        validateDistance(distance);
+        if (upStationId.equals(downStationId)) {
+            throw new IllegalArgumentException("상행역과 하행역은 같을 수 없습니다.");
+        }
+        head = new Node(upStationId);
+        tail = new Node(downStationId);
+        link(head, tail, distance);
+        nodes.put(upStationId, head);
+        nodes.put(downStationId, tail);
+    }
+
+    public synchronized void add(Long upStationId, Long downStationId, int distance) {
+        validateDistance(distance);
+        Node upNode = nodes.get(upStationId);
+        Node downNode = nodes.get(downStationId);
+        if (upNode != null && downNode != null) {
+            throw new IllegalArgumentException("상행역과 하행역이 이미 노선에 모두 등록되어 있습니다.");
+        }
+        if (upNode == null && downNode == null) {
+            throw new IllegalArgumentException("상행역과 하행역 중 하나는 노선에 등록되어 있어야 합니다.");
+        }
+        if (upNode != null) {
+            addAfter(upNode, new Node(downStationId), distance);
+            return;
+        }
+        addBefore(downNode, new Node(upStationId), distance);
+    }
+
+    private void addAfter(Node upNode, Node newNode, int distance) {
+        if (upNode == tail) {
+            link(tail, newNode, distance);
+            tail = newNode;
+            nodes.put(newNode.stationId, newNode);
+            modified();
+            return;
+        }
+        validateSplit(upNode.distance, distance);
+        Node next = upNode.next;
+        int remain = upNode.distance - distance;
+        link(upNode, newNode, distance);
+        link(newNode, next, remain);
+        nodes.put(newNode.stationId, newNode);
+        modified();
+    }
+
+    private void addBefore(Node downNode, Node newNode, int distance) {
+        if (downNode == head) {
+            link(newNode, head, distance);
+            head = newNode;
+            nodes.put(newNode.stationId, newNode);
+            modified();
+            return;
+        }
+        Node prev = downNode.prev;
+        validateSplit(prev.distance, distance);
+        int remain = prev.distance - distance;
+        link(prev, newNode, remain);
+        link(newNode, downNode, distance);
+        nodes.put(newNode.stationId, newNode);
+        modified();
+    }
+
+    public synchronized void remove(Long stationId) {
+        validateRemovable(stationId);
+        Node node = nodes.remove(stationId);
+        if (node == head) {
+            head = node.next;
+            head.prev = null;
+        } else if (node == tail) {
+            tail = node.prev;
+            tail.next = null;
+            tail.distance = 0;
+        } else {
+            link(node.prev, node.next, node.prev.distance + node.distance);
+        }
+        modified();
+    }
+
+    public synchronized void validateRemovable(Long stationId) {
+        if (!nodes.containsKey(stationId)) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 지하철역입니다. (id: " + stationId + ")");
+        }
+        if (nodes.size() <= 2) {
+            throw new IllegalArgumentException("구간이 하나인 노선에서는 역을 제거할 수 없습니다.");
+        }
+    }
+
+    public synchronized boolean contains(Long stationId) {
+        return nodes.containsKey(stationId);
+    }
+
+    public synchronized List<Long> stationIds() {
+        if (stationIds == null) {
+            List<Long> ordered = new ArrayList<>(nodes.size());
+            for (Node node = head; node != null; node = node.next) {
+                ordered.add(node.stationId);
+            }
+            stationIds = Collections.unmodifiableList(ordered);
+        }
+        return stationIds;
+    }
+
+    public synchronized List<Section> sections() {
+        List<Section> sections = new ArrayList<>(nodes.size());
+        for (Node node = head; node.next != null; node = node.next) {
+            sections.add(new Section(node.stationId, node.next.stationId, node.distance));
+        }
+        return sections;
+    }
+
+    public synchronized int distance(Long sourceStationId, Long targetStationId) {
+        if (cumulativeDistances == null) {
+            buildCumulativeDistances();
+        }
+        Integer source = positions.get(sourceStationId);
+        Integer target = positions.get(targetStationId);
+        if (source == null || target == null) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 지하철역입니다.");
+        }
+        return Math.abs(cumulativeDistances[target] - cumulativeDistances[source]);
+    }
+
+    private void buildCumulativeDistances() {
+        Map<Long, Integer> newPositions = new HashMap<>();
+        int[] distances = new int[nodes.size()];
+        int position = 0;
+        for (Node node = head; node != null; node = node.next) {
+            newPositions.put(node.stationId, position);
+            if (node.next != null) {
+                distances[position + 1] = distances[position] + node.distance;
+            }
+            position++;
+        }
+        positions = newPositions;
+        cumulativeDistances = distances;
+    }
+
+    public synchronized int version() {
+        return version;
+    }
+
+    private void modified() {
+        version++;
+        stationIds = null;
+        positions = null;
+        cumulativeDistances = null;
+    }
+
+    private static void link(Node up, Node down, int distance) {
+        up.next = down;
+        up.distance = distance;
+        down.prev = up;
+    }
+
+    private static void validateDistance(int distance) {
+        if (distance <= 0) {
+            throw new IllegalArgumentException("구간 거리는 0보다 커야 합니다. (distance: " + distance + ")");
+        }
+    }
+
+    private static void validateSplit(int existingDistance, int distance) {
+        if (distance >= existingDistance) {
+            throw new IllegalArgumentException("역 사이에 추가하는 구간의 거리는 기존 구간의 거리보다 짧아야 합니다.");
+        }
+    }
+
+    private static class Node {
+        private final Long stationId;
+        private Node prev;
+        private Node next;
+        // 다음 역까지의 거리
+        private int distance;
+
+        private Node(Long stationId) {
+            this.stationId = stationId;
+        }
+    }
+}
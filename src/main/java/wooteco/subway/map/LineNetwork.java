@@ -0,0 +1,68 @@
+package wooteco.subway.map;
+
+import wooteco.subway.line.LineDistances;
+import wooteco.subway.line.LineResponse;
+import wooteco.subway.line.Section;
+import wooteco.subway.path.SubwayGraph;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NetworkSnapshot 중 노선과 구간에서 나오는 부분. 역만 바뀐 쓰기에서는 그대로 다음 스냅샷으로 넘어간다.
+ */
+class LineNetwork {
+    private final long version;
+    private final List<LineResponse> lineResponses;
+    private final Map<Long, LineResponse> lineResponsesById;
+    private final Map<Long, LineDistances> lineDistancesById;
+    private final List<List<Section>> sectionsByLine;
+    private final int[] lineExtraFares;
+    private final SubwayGraph graph;
+    private final MapResponse mapResponse;
+
+    LineNetwork(long version, List<LineResponse> lineResponses, Map<Long, LineResponse> lineResponsesById,
+                Map<Long, LineDistances> lineDistancesById, List<List<Section>> sectionsByLine, int[] lineExtraFares, SubwayGraph graph,
+                MapResponse mapResponse) {
+        this.version = version;
+        this.lineResponses = lineResponses;
+        this.lineResponsesById = lineResponsesById;
+        this.lineDistancesById = lineDistancesById;
+        this.sectionsByLine = sectionsByLine;
+        this.lineExtraFares = lineExtraFares;
+        this.graph = graph;
+        this.mapResponse = mapResponse;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    List<LineResponse> getLineResponses() {
+        return lineResponses;
+    }
+
+    Map<Long, LineResponse> getLineResponsesById() {
+        return lineResponsesById;
+    }
+
+    Map<Long, LineDistances> getLineDistancesById() {
+        return lineDistancesById;
+    }
+
+    List<List<Section>> getSectionsByLine() {
+        return sectionsByLine;
+    }
+
+    int[] getLineExtraFares() {
+        return lineExtraFares;
+    }
+
+    SubwayGraph getGraph() {
+        return graph;
+    }
+
+    MapResponse getMapResponse() {
+        return mapResponse;
+    }
+}
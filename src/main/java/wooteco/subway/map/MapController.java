@@ -0,0 +1,20 @@
+package wooteco.subway.map;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class MapController {
+    private final NetworkSnapshots networkSnapshots;
+
+    public MapController(NetworkSnapshots networkSnapshots) {
+        this.networkSnapshots = networkSnapshots;
+    }
+
+    @GetMapping(value = "/maps", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MapResponse> showMap() {
+        return ResponseEntity.ok().body(networkSnapshots.current().getMapResponse());
+    }
+}
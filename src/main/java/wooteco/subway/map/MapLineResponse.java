@@ -0,0 +1,42 @@
+package wooteco.subway.map;
+
+import java.util.List;
+
+public class MapLineResponse {
+    private Long id;
+    private String name;
+    private String color;
+    private int extraFare;
+    private List<MapSectionResponse> stations;
+
+    public MapLineResponse() {
+    }
+
+    public MapLineResponse(Long id, String name, String color, int extraFare, List<MapSectionResponse> stations) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.extraFare = extraFare;
+        this.stations = stations;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public List<MapSectionResponse> getStations() {
+        return stations;
+    }
+}
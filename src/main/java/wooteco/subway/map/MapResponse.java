@@ -0,0 +1,18 @@
+package wooteco.subway.map;
+
+import java.util.List;
+
+public class MapResponse {
+    private List<MapLineResponse> lineResponses;
+
+    public MapResponse() {
+    }
+
+    public MapResponse(List<MapLineResponse> lineResponses) {
+        this.lineResponses = lineResponses;
+    }
+
+    public List<MapLineResponse> getLineResponses() {
+        return lineResponses;
+    }
+}
@@ -0,0 +1,24 @@
+package wooteco.subway.map;
+
+import wooteco.subway.station.StationResponse;
+
+public class MapSectionResponse {
+    private StationResponse station;
+    private Integer distance;
+
+    public MapSectionResponse() {
+    }
+
+    public MapSectionResponse(StationResponse station, Integer distance) {
+        this.station = station;
+        this.distance = distance;
+    }
+
+    public StationResponse getStation() {
+        return station;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+}
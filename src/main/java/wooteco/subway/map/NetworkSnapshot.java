@@ -0,0 +1,82 @@
+package wooteco.subway.map;
+
+import wooteco.subway.line.LineDistances;
+import wooteco.subway.line.LineResponse;
+import wooteco.subway.line.Section;
+import wooteco.subway.path.SubwayGraph;
+import wooteco.subway.station.StationCatalog;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 한 시점의 역, 노선, 구간과 경로 탐색 그래프를 묶은 불변 스냅샷.
+ * 쓰기가 끝날 때마다 새로 만들어 통째로 바꿔 끼우므로, 읽는 쪽은 잠금 없이 서로 맞는 역과 노선을 본다.
+ * 그래프의 정점은 노선에 놓인 역뿐이다. 목록에는 있지만 그래프에 없는 역은 어느 역과도 이어지지 않은 역이다.
+ */
+public class NetworkSnapshot {
+    private final StationCatalog stationCatalog;
+    private final LineNetwork lineNetwork;
+
+    NetworkSnapshot(StationCatalog stationCatalog, LineNetwork lineNetwork) {
+        this.stationCatalog = stationCatalog;
+        this.lineNetwork = lineNetwork;
+    }
+
+    NetworkSnapshot withStationCatalog(StationCatalog stationCatalog) {
+        return new NetworkSnapshot(stationCatalog, lineNetwork);
+    }
+
+    NetworkSnapshot withLineNetwork(LineNetwork lineNetwork) {
+        return new NetworkSnapshot(stationCatalog, lineNetwork);
+    }
+
+    LineNetwork getLineNetwork() {
+        return lineNetwork;
+    }
+
+    /**
+     * 이 스냅샷을 만들 때의 역 목록. 다른 인스턴스가 바꾼 역까지 보려면 NetworkSnapshots.stationCatalog 를 쓴다.
+     */
+    StationCatalog getStationCatalog() {
+        return stationCatalog;
+    }
+
+    /**
+     * 노선이나 구간이 바뀔 때만 커진다. 역만 더하거나 지워서는 바뀌지 않는다.
+     */
+    public long getLineVersion() {
+        return lineNetwork.getVersion();
+    }
+
+    public List<LineResponse> getLineResponses() {
+        return lineNetwork.getLineResponses();
+    }
+
+    public Optional<LineResponse> findLineResponse(Long lineId) {
+        return Optional.ofNullable(lineNetwork.getLineResponsesById().get(lineId));
+    }
+
+    public Optional<LineDistances> findLineDistances(Long lineId) {
+        return Optional.ofNullable(lineNetwork.getLineDistancesById().get(lineId));
+    }
+
+    public List<List<Section>> getSectionsByLine() {
+        return lineNetwork.getSectionsByLine();
+    }
+
+    /**
+     * i 번째 값은 getSectionsByLine 의 i 번째 노선의 추가 요금이다. 읽기만 한다.
+     */
+    public int[] getLineExtraFares() {
+        return lineNetwork.getLineExtraFares();
+    }
+
+    public SubwayGraph getGraph() {
+        return lineNetwork.getGraph();
+    }
+
+    public MapResponse getMapResponse() {
+        return lineNetwork.getMapResponse();
+    }
+}
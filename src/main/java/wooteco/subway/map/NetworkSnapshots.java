@@ -0,0 +1,195 @@
+package wooteco.subway.map;
+
+import org.springframework.stereotype.Component;
+import wooteco.subway.line.Line;
+import wooteco.subway.line.LineDao;
+import wooteco.subway.line.LineDistances;
+import wooteco.subway.line.LineResponse;
+import wooteco.subway.line.Section;
+import wooteco.subway.path.SubwayGraph;
+import wooteco.subway.station.Station;
+import wooteco.subway.station.StationCatalog;
+import wooteco.subway.station.StationDao;
+import wooteco.subway.station.StationJsonWriter;
+import wooteco.subway.station.StationResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 지금의 NetworkSnapshot 을 AtomicReference 하나로 내보낸다.
+ * 역이나 노선을 바꾸는 쪽은 writeStations, writeLines 에 바꾸는 일을 넘기고, 읽는 쪽은 current 로 꺼내 쓰기만 한다.
+ * 바꾸는 일과 그 결과로 새 스냅샷을 만드는 일은 한 잠금 안에서 이어지므로, 스냅샷은 언제나 마지막 쓰기까지를 그대로 담는다.
+ */
+@Component
+public class NetworkSnapshots {
+    private final LineDao lineDao;
+    private final StationDao stationDao;
+    private final StationJsonWriter stationJsonWriter;
+    private final AtomicReference<NetworkSnapshot> current = new AtomicReference<>();
+    private long lineVersion;
+
+    public NetworkSnapshots(LineDao lineDao, StationDao stationDao, StationJsonWriter stationJsonWriter) {
+        this.lineDao = lineDao;
+        this.stationDao = stationDao;
+        this.stationJsonWriter = stationJsonWriter;
+    }
+
+    public NetworkSnapshot current() {
+        NetworkSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return initialize();
+        }
+        return snapshot;
+    }
+
+    /**
+     * 저장소의 지금 버전에 맞는 역 목록을 돌려준다. 같은 DB 를 쓰는 다른 인스턴스가 바꾼 역도 버전이 달라지면 다시 읽는다.
+     * 여기서는 버전만 한 번 읽어 비교하고, 목록은 새 버전에서 처음 쓰일 때 읽는다. 쓰는 쪽의 잠금은 기다리지 않는다.
+     */
+    public StationCatalog stationCatalog() {
+        long version = stationDao.version();
+        while (true) {
+            NetworkSnapshot snapshot = current();
+            StationCatalog stationCatalog = snapshot.getStationCatalog();
+            if (stationCatalog.getVersion() == version) {
+                return stationCatalog;
+            }
+            StationCatalog fresh = newStationCatalog(version);
+            if (current.compareAndSet(snapshot, snapshot.withStationCatalog(fresh))) {
+                return fresh;
+            }
+        }
+    }
+
+    /**
+     * 역만 바꾼다. 노선에 놓인 역은 노선에서 먼저 빼야 지울 수 있으므로 노선 쪽 자료는 그대로 넘겨받는다.
+     * 잠금은 재진입되므로, 역을 노선에서 빼고 지우는 일처럼 write 안에서 writeLines 를 불러 한 번에 묶을 수 있다.
+     */
+    public synchronized <T> T writeStations(Supplier<T> write) {
+        T result = write.get();
+        StationCatalog stationCatalog = newStationCatalog(stationDao.version());
+        replace(snapshot -> snapshot.withStationCatalog(stationCatalog));
+        return result;
+    }
+
+    public void writeStations(Runnable write) {
+        writeStations(toSupplier(write));
+    }
+
+    /**
+     * 노선과 구간만 바꾼다. 역이 있는지는 잠금 안에서 stationCatalog() 로 확인하면 된다.
+     */
+    public synchronized <T> T writeLines(Supplier<T> write) {
+        T result = write.get();
+        LineNetwork lineNetwork = buildLineNetwork(stationCatalog());
+        replace(snapshot -> snapshot.withLineNetwork(lineNetwork));
+        return result;
+    }
+
+    public void writeLines(Runnable write) {
+        writeLines(toSupplier(write));
+    }
+
+    private synchronized NetworkSnapshot initialize() {
+        NetworkSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            StationCatalog stationCatalog = newStationCatalog(stationDao.version());
+            snapshot = new NetworkSnapshot(stationCatalog, buildLineNetwork(stationCatalog));
+            current.set(snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 아직 스냅샷이 없으면 먼저 만든 뒤 바꾼다. stationCatalog 가 그 사이 끼워 넣은 역 목록을 덮어써도 다음 읽기에서 다시 맞춘다.
+     */
+    private void replace(UnaryOperator<NetworkSnapshot> change) {
+        current();
+        current.updateAndGet(change);
+    }
+
+    private Supplier<Void> toSupplier(Runnable write) {
+        return () -> {
+            write.run();
+            return null;
+        };
+    }
+
+    private StationCatalog newStationCatalog(long version) {
+        return new StationCatalog(version, stationDao::findAll, stationJsonWriter);
+    }
+
+    private LineNetwork buildLineNetwork(StationCatalog stationCatalog) {
+        List<Line> lines = lineDao.findAll();
+        List<LineResponse> lineResponses = new ArrayList<>(lines.size());
+        Map<Long, LineResponse> lineResponsesById = new HashMap<>();
+        Map<Long, LineDistances> lineDistancesById = new HashMap<>();
+        List<MapLineResponse> mapLineResponses = new ArrayList<>(lines.size());
+        List<List<Section>> sectionsByLine = new ArrayList<>(lines.size());
+        List<Section> allSections = new ArrayList<>();
+        Map<Long, Station> lineStations = new TreeMap<>();
+        for (Line line : lines) {
+            List<Section> sections = Collections.unmodifiableList(line.getSections().sections());
+            sectionsByLine.add(sections);
+            lineDistancesById.put(line.getId(), LineDistances.of(sections));
+            allSections.addAll(sections);
+
+            List<MapSectionResponse> mapSections = toMapSections(sections, stationCatalog, lineStations);
+            List<StationResponse> stations = new ArrayList<>(mapSections.size());
+            for (MapSectionResponse mapSection : mapSections) {
+                stations.add(mapSection.getStation());
+            }
+            LineResponse lineResponse = new LineResponse(line.getId(), line.getName(), line.getColor(),
+                    line.getExtraFare(), Collections.unmodifiableList(stations));
+            lineResponses.add(lineResponse);
+            lineResponsesById.put(line.getId(), lineResponse);
+            mapLineResponses.add(new MapLineResponse(line.getId(), line.getName(), line.getColor(),
+                    line.getExtraFare(), Collections.unmodifiableList(mapSections)));
+        }
+
+        int[] lineExtraFares = new int[lines.size()];
+        int[] extraFares = new int[allSections.size()];
+        for (int i = 0, sectionIndex = 0; i < lines.size(); i++) {
+            lineExtraFares[i] = lines.get(i).getExtraFare();
+            for (int j = 0; j < sectionsByLine.get(i).size(); j++) {
+                extraFares[sectionIndex++] = lineExtraFares[i];
+            }
+        }
+        SubwayGraph graph = SubwayGraph.of(new ArrayList<>(lineStations.values()), allSections, extraFares);
+        return new LineNetwork(++lineVersion, Collections.unmodifiableList(lineResponses), lineResponsesById,
+                lineDistancesById, Collections.unmodifiableList(sectionsByLine), lineExtraFares, graph,
+                new MapResponse(Collections.unmodifiableList(mapLineResponses)));
+    }
+
+    /**
+     * 상행 종점부터 차례로 역과 다음 역까지의 거리를 담는다. 하행 종점의 거리는 null 이다.
+     */
+    private List<MapSectionResponse> toMapSections(List<Section> sections, StationCatalog stationCatalog,
+                                                   Map<Long, Station> lineStations) {
+        List<MapSectionResponse> mapSections = new ArrayList<>(sections.size() + 1);
+        for (Section section : sections) {
+            addMapSection(mapSections, stationCatalog, lineStations, section.getUpStationId(), section.getDistance());
+        }
+        if (!sections.isEmpty()) {
+            Section last = sections.get(sections.size() - 1);
+            addMapSection(mapSections, stationCatalog, lineStations, last.getDownStationId(), null);
+        }
+        return mapSections;
+    }
+
+    private void addMapSection(List<MapSectionResponse> mapSections, StationCatalog stationCatalog,
+                               Map<Long, Station> lineStations, Long stationId, Integer distance) {
+        stationCatalog.findById(stationId).ifPresent(station -> {
+            lineStations.put(station.getId(), station);
+            mapSections.add(new MapSectionResponse(new StationResponse(station.getId(), station.getName()), distance));
+        });
+    }
+}
@@ -0,0 +1,213 @@
+package wooteco.subway.path;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 모든 역 쌍의 최단 거리와 첫 간선을 미리 계산해 두는 경로 탐색.
+ * 출발역마다 다익스트라를 한 번씩 이 엔진 전용 ForkJoinPool 에서 병렬로 돌려 n x n 행렬을 채우고,
+ * 질의는 첫 간선을 따라가기만 하므로 경로 길이만큼의 시간에 답한다.
+ * 행렬은 힙 밖의 direct buffer 에 두어 GC 가 훑지 않게 한다. 엔진이 물러나고 마지막 질의가 행렬을 놓으면
+ * 행렬은 같은 계열의 엔진이 함께 쓰는 예비 자리로 돌아가, 다음에 만드는 엔진이 새로 할당하지 않고 다시 채운다.
+ */
+public class AllPairsPathEngine implements PathEngine {
+    /**
+     * 행렬 두 개가 역 수의 제곱만큼 메모리를 쓰므로 이보다 역이 많으면 만들지 않는다.
+     * 2048 로 올려 잡으면 한 엔진이 약 32MB 이고, 답하는 엔진과 새로 만드는 엔진을 합쳐 약 64MB 이다.
+     * direct buffer 의 기본 한도는 힙 크기를 따르므로 힙이 작다면 -XX:MaxDirectMemorySize=128m 이상으로 둔다.
+     */
+    public static final int MAX_STATIONS = 2000;
+    // 행렬은 역 수를 이 단위로 올려 잡아 할당한다. 역이 조금 늘어도 예비 행렬에 들어간다.
+    private static final int ALLOCATION_UNIT = 64;
+    // 거리 행렬 조회 같은 요청 처리와 CPU 를 나눠 쓰도록 공용 풀 대신 이 풀에서만 행렬을 채운다.
+    private static final ForkJoinPool BUILDERS =
+            ParallelRows.newPool("apsp-builder", Runtime.getRuntime().availableProcessors());
+
+    private final SubwayGraph graph;
+    private final Matrix matrix;
+    private final AtomicReference<Matrix> spare;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private AllPairsPathEngine(SubwayGraph graph, Matrix matrix, AtomicReference<Matrix> spare) {
+        this.graph = graph;
+        this.matrix = matrix;
+        this.spare = spare;
+    }
+
+    public static AllPairsPathEngine of(SubwayGraph graph) {
+        return of(graph, null);
+    }
+
+    /**
+     * previous 는 지금 질의에 답하고 있는 엔진이다. 그 엔진과 예비 자리를 나눠 쓰고, 예비 행렬이 충분히 크면 그것을 채운다.
+     */
+    public static AllPairsPathEngine of(SubwayGraph graph, AllPairsPathEngine previous) {
+        int size = graph.size();
+        if (size > MAX_STATIONS) {
+            throw new IllegalArgumentException("모든 역 쌍의 경로를 미리 계산하기에는 역이 너무 많습니다. (역 수: " + size + ")");
+        }
+        AtomicReference<Matrix> spare = previous == null ? new AtomicReference<>() : previous.spare;
+        Matrix reusable = spare.getAndSet(null);
+        Matrix matrix = reusable != null && reusable.capacity() >= size * size
+                ? new Matrix(reusable.distances, reusable.nextEdges, spare)
+                : new Matrix(allocate(size), allocate(size), spare);
+        RowBuilder builder = new RowBuilder(graph);
+        ParallelRows.forEach(BUILDERS, size, source -> builder.fill(source, matrix.distances, matrix.nextEdges));
+        return new AllPairsPathEngine(graph, matrix, spare);
+    }
+
+    private static IntBuffer allocate(int size) {
+        int side = (size + ALLOCATION_UNIT - 1) / ALLOCATION_UNIT * ALLOCATION_UNIT;
+        return ByteBuffer.allocateDirect(side * side * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    @Override
+    public GraphPath find(int source, int target) {
+        if (!matrix.acquire()) {
+            return new DijkstraPathEngine(graph).find(source, target);
+        }
+        try {
+            return findInMatrix(source, target);
+        } finally {
+            matrix.release();
+        }
+    }
+
+    /**
+     * 엔진이 가진 참조를 놓는다. 진행 중인 질의가 모두 끝나면 행렬은 예비 자리로 돌아가고,
+     * 그 뒤에 들어온 질의는 행렬 대신 다익스트라로 답한다.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            matrix.release();
+        }
+    }
+
+    private GraphPath findInMatrix(int source, int target) {
+        int size = graph.size();
+        IntBuffer distances = matrix.distances;
+        IntBuffer nextEdges = matrix.nextEdges;
+        int distance = distances.get(source * size + target);
+        if (distance == SearchSpace.INFINITY) {
+            return null;
+        }
+        int length = 1;
+        for (int vertex = source; vertex != target; vertex = graph.target(nextEdges.get(vertex * size + target))) {
+            length++;
+        }
+        int[] vertices = new int[length];
+        int[] edges = new int[length - 1];
+        vertices[0] = source;
+        for (int i = 1; i < length; i++) {
+            edges[i - 1] = nextEdges.get(vertices[i - 1] * size + target);
+            vertices[i] = graph.target(edges[i - 1]);
+        }
+        return new GraphPath(vertices, edges, distance);
+    }
+
+    @Override
+    public long memoryBytes() {
+        return 2L * matrix.capacity() * Integer.BYTES;
+    }
+
+    /**
+     * 엔진 하나와 행렬을 읽는 질의마다 참조를 하나씩 센다. 참조가 0 이 되면 다시 잡을 수 없고, 행렬은 예비 자리로 돌아간다.
+     */
+    private static class Matrix {
+        private final IntBuffer distances;
+        private final IntBuffer nextEdges;
+        private final AtomicReference<Matrix> spare;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Matrix(IntBuffer distances, IntBuffer nextEdges, AtomicReference<Matrix> spare) {
+            this.distances = distances;
+            this.nextEdges = nextEdges;
+            this.spare = spare;
+        }
+
+        private int capacity() {
+            return distances.capacity();
+        }
+
+        private boolean acquire() {
+            while (true) {
+                int count = references.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (references.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                spare.set(this);
+            }
+        }
+    }
+
+    /**
+     * 출발역 하나의 최단 경로 트리를 구해 행렬의 한 행을 채운다. 작업 배열은 행을 채우는 스레드의 것을 빌려 쓴다.
+     */
+    private static class RowBuilder {
+        private final SubwayGraph graph;
+
+        private RowBuilder(SubwayGraph graph) {
+            this.graph = graph;
+        }
+
+        private void fill(int source, IntBuffer distances, IntBuffer nextEdges) {
+            SearchSpace space = SearchSpace.forCurrentThread(SearchSpace.PRIMARY, graph.size());
+            int settledCount = search(space, source);
+            int[] settled = space.order;
+            int[] firstEdges = space.labels;
+            int rowStart = source * graph.size();
+            IntBuffer distanceRow = distances.duplicate();
+            distanceRow.position(rowStart);
+            distanceRow.put(space.distances, 0, graph.size());
+
+            // 확정된 순서대로 보면 직전 정점의 첫 간선이 항상 먼저 정해져 있다.
+            for (int i = 1; i < settledCount; i++) {
+                int vertex = settled[i];
+                int previous = space.previous[vertex];
+                firstEdges[vertex] = previous == source ? space.previousEdges[vertex] : firstEdges[previous];
+                nextEdges.put(rowStart + vertex, firstEdges[vertex]);
+            }
+        }
+
+        private int search(SearchSpace space, int source) {
+            space.reset();
+            int[] distances = space.distances;
+            int[] settled = space.order;
+            IndexedMinHeap heap = space.heap;
+            int settledCount = 0;
+
+            space.update(source, 0, -1, -1);
+            heap.insertOrDecrease(source, 0);
+            while (!heap.isEmpty()) {
+                int vertex = heap.poll();
+                settled[settledCount++] = vertex;
+                int distance = distances[vertex];
+                for (int edge = graph.edgeStart(vertex), end = graph.edgeEnd(vertex); edge < end; edge++) {
+                    int next = graph.target(edge);
+                    int nextDistance = distance + graph.weight(edge);
+                    if (nextDistance < distances[next]) {
+                        space.update(next, nextDistance, vertex, edge);
+                        heap.insertOrDecrease(next, nextDistance);
+                    }
+                }
+            }
+            return settledCount;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package wooteco.subway.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 옌(Yen) 알고리즘으로 같은 역을 두 번 지나지 않는 경로를 짧은 순서대로 k 개까지 찾는다.
+ * 도착역에서 시작한 최단 경로 트리를 질의마다 한 번 만들어 두고, 갈래 경로를 찾을 때는
+ * 트리를 따라가는 경로가 막힌 역이나 구간을 지나지 않으면 그대로 쓰고, 아니면 트리의 거리를 휴리스틱으로 하는 A* 로 찾는다.
+ * 후보는 아직 필요한 개수만큼만 남기고, 남은 후보 중 가장 긴 것보다 길어질 A* 탐색은 중간에 멈춘다.
+ */
+public class AlternativePathFinder {
+    private static final Comparator<Candidate> SHORTEST_FIRST = Comparator
+            .comparingInt(Candidate::distance)
+            .thenComparing(candidate -> candidate.vertices, AlternativePathFinder::compareVertices);
+
+    private final SubwayGraph graph;
+
+    public AlternativePathFinder(SubwayGraph graph) {
+        this.graph = graph;
+    }
+
+    public List<GraphPath> find(int source, int target, int k) {
+        Workspace workspace = new Workspace(graph.size());
+        SearchSpace tree = workspace.tree;
+        buildTree(tree, target);
+        if (tree.distances[source] == SearchSpace.INFINITY) {
+            return Collections.emptyList();
+        }
+
+        List<Candidate> accepted = new ArrayList<>();
+        accepted.add(followTree(tree, new int[]{source}, new int[0], new int[]{0}));
+        TreeSet<Candidate> candidates = new TreeSet<>(SHORTEST_FIRST);
+        while (accepted.size() < k) {
+            Candidate last = accepted.get(accepted.size() - 1);
+            int needed = k - accepted.size();
+            for (int i = 0; i + 1 < last.vertices.length; i++) {
+                int bound = candidates.size() < needed ? SearchSpace.INFINITY : candidates.last().distance();
+                Candidate candidate = spur(workspace, last, i, accepted, bound);
+                if (candidate == null || !candidates.add(candidate)) {
+                    continue;
+                }
+                if (candidates.size() > needed) {
+                    candidates.pollLast();
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            accepted.add(candidates.pollFirst());
+        }
+
+        List<GraphPath> paths = new ArrayList<>(accepted.size());
+        for (Candidate candidate : accepted) {
+            paths.add(new GraphPath(candidate.vertices, candidate.edges, candidate.distance()));
+        }
+        return paths;
+    }
+
+    private void buildTree(SearchSpace tree, int target) {
+        tree.reset();
+        int[] distances = tree.distances;
+        IndexedMinHeap heap = tree.heap;
+        tree.update(target, 0, -1, -1);
+        heap.insertOrDecrease(target, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            int distance = distances[vertex];
+            for (int edge = graph.edgeStart(vertex), end = graph.edgeEnd(vertex); edge < end; edge++) {
+                int next = graph.target(edge);
+                int nextDistance = distance + graph.weight(edge);
+                if (nextDistance < distances[next]) {
+                    tree.update(next, nextDistance, vertex, edge);
+                    heap.insertOrDecrease(next, nextDistance);
+                }
+            }
+        }
+    }
+
+    /**
+     * 이전 경로의 i 번째 역까지를 그대로 두고, 그 뒤를 지금까지 찾은 경로와 다르게 잇는 가장 짧은 경로를 찾는다.
+     */
+    private Candidate spur(Workspace workspace, Candidate last, int i, List<Candidate> accepted, int bound) {
+        int spurVertex = last.vertices[i];
+        int rootDistance = last.prefixDistances[i];
+        for (int j = 0; j < i; j++) {
+            workspace.blocked[last.vertices[j]] = true;
+        }
+        for (Candidate path : accepted) {
+            if (path.vertices.length > i + 1 && sharesRoot(path, last, i)) {
+                workspace.blockedNext[path.vertices[i + 1]] = true;
+            }
+        }
+
+        int[] root = Arrays.copyOf(last.vertices, i + 1);
+        int[] rootEdges = Arrays.copyOf(last.edges, i);
+        int[] rootPrefix = Arrays.copyOf(last.prefixDistances, i + 1);
+        Candidate candidate = null;
+        if (isTreePathOpen(workspace, spurVertex)) {
+            if (rootDistance + workspace.tree.distances[spurVertex] < bound) {
+                candidate = followTree(workspace.tree, root, rootEdges, rootPrefix);
+            }
+        } else {
+            candidate = searchSpur(workspace, root, rootEdges, rootPrefix, bound - rootDistance);
+        }
+
+        for (int j = 0; j < i; j++) {
+            workspace.blocked[last.vertices[j]] = false;
+        }
+        for (Candidate path : accepted) {
+            if (path.vertices.length > i + 1) {
+                workspace.blockedNext[path.vertices[i + 1]] = false;
+            }
+        }
+        return candidate;
+    }
+
+    private boolean sharesRoot(Candidate path, Candidate last, int i) {
+        for (int j = 0; j <= i; j++) {
+            if (path.vertices[j] != last.vertices[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isTreePathOpen(Workspace workspace, int spurVertex) {
+        int[] towardTarget = workspace.tree.previous;
+        int first = towardTarget[spurVertex];
+        if (first < 0 || workspace.blockedNext[first]) {
+            return false;
+        }
+        for (int vertex = first; vertex >= 0; vertex = towardTarget[vertex]) {
+            if (workspace.blocked[vertex]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 트리는 도착역에서 자랐으므로 previousEdges[v] 는 v 에서 도착역 쪽으로 한 칸 가는 구간이다.
+     */
+    private Candidate followTree(SearchSpace tree, int[] root, int[] rootEdges, int[] rootPrefix) {
+        int spurVertex = root[root.length - 1];
+        int rootDistance = rootPrefix[rootPrefix.length - 1];
+        int length = root.length;
+        for (int vertex = tree.previous[spurVertex]; vertex >= 0; vertex = tree.previous[vertex]) {
+            length++;
+        }
+        int[] vertices = Arrays.copyOf(root, length);
+        int[] edges = Arrays.copyOf(rootEdges, length - 1);
+        int[] prefixDistances = Arrays.copyOf(rootPrefix, length);
+        for (int j = root.length; j < length; j++) {
+            vertices[j] = tree.previous[vertices[j - 1]];
+            edges[j - 1] = tree.previousEdges[vertices[j - 1]];
+            prefixDistances[j] = rootDistance + tree.distances[spurVertex] - tree.distances[vertices[j]];
+        }
+        return new Candidate(vertices, edges, prefixDistances);
+    }
+
+    private Candidate searchSpur(Workspace workspace, int[] root, int[] rootEdges, int[] rootPrefix, int spurBound) {
+        int spurVertex = root[root.length - 1];
+        int[] toTarget = workspace.tree.distances;
+        SearchSpace space = workspace.spur;
+        space.reset();
+        int[] distances = space.distances;
+        IndexedMinHeap heap = space.heap;
+
+        space.update(spurVertex, 0, -1, -1);
+        heap.insertOrDecrease(spurVertex, toTarget[spurVertex]);
+        while (!heap.isEmpty() && heap.peekKey() < spurBound) {
+            int vertex = heap.poll();
+            if (toTarget[vertex] == 0) {
+                return join(root, rootEdges, rootPrefix, space.pathTo(vertex), distances);
+            }
+            int distance = distances[vertex];
+            for (int edge = graph.edgeStart(vertex), end = graph.edgeEnd(vertex); edge < end; edge++) {
+                int next = graph.target(edge);
+                if (workspace.blocked[next] || (vertex == spurVertex && workspace.blockedNext[next])
+                        || toTarget[next] == SearchSpace.INFINITY) {
+                    continue;
+                }
+                int nextDistance = distance + graph.weight(edge);
+                if (nextDistance < distances[next]) {
+                    space.update(next, nextDistance, vertex, edge);
+                    heap.insertOrDecrease(next, nextDistance + toTarget[next]);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Candidate join(int[] root, int[] rootEdges, int[] rootPrefix, GraphPath spurPath, int[] spurDistances) {
+        int[] spurVertices = spurPath.getVertices();
+        int[] spurEdges = spurPath.getEdges();
+        int rootDistance = rootPrefix[rootPrefix.length - 1];
+        int length = root.length + spurVertices.length - 1;
+        int[] vertices = Arrays.copyOf(root, length);
+        int[] edges = Arrays.copyOf(rootEdges, length - 1);
+        int[] prefixDistances = Arrays.copyOf(rootPrefix, length);
+        for (int j = 1; j < spurVertices.length; j++) {
+            vertices[root.length + j - 1] = spurVertices[j];
+            edges[root.length + j - 2] = spurEdges[j - 1];
+            prefixDistances[root.length + j - 1] = rootDistance + spurDistances[spurVertices[j]];
+        }
+        return new Candidate(vertices, edges, prefixDistances);
+    }
+
+    private static int compareVertices(int[] left, int[] right) {
+        for (int i = 0; i < Math.min(left.length, right.length); i++) {
+            if (left[i] != right[i]) {
+                return Integer.compare(left[i], right[i]);
+            }
+        }
+        return Integer.compare(left.length, right.length);
+    }
+
+    private static class Candidate {
+        private final int[] vertices;
+        private final int[] edges;
+        private final int[] prefixDistances;
+
+        private Candidate(int[] vertices, int[] edges, int[] prefixDistances) {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.prefixDistances = prefixDistances;
+        }
+
+        private int distance() {
+            return prefixDistances[prefixDistances.length - 1];
+        }
+    }
+
+    /**
+     * 스레드가 공유하는 작업 배열 두 개를 묶는다. 막힌 역과 막힌 다음 역 표시는 각 작업 배열의 marks 를 빌려 쓴다.
+     */
+    private static class Workspace {
+        private final SearchSpace tree;
+        private final SearchSpace spur;
+        private final boolean[] blocked;
+        private final boolean[] blockedNext;
+
+        private Workspace(int size) {
+            this.tree = SearchSpace.forCurrentThread(SearchSpace.PRIMARY, size);
+            this.spur = SearchSpace.forCurrentThread(SearchSpace.SECONDARY, size);
+            this.blocked = tree.marks;
+            this.blockedNext = spur.marks;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package wooteco.subway.path;
+
+/**
+ * Contraction Hierarchies 경로 탐색.
+ * 전처리에서 중요도가 낮은 정점부터 차례로 축약하며 필요한 지름길 간선을 추가하고,
+ * 질의에서는 출발역과 도착역 양쪽에서 순위가 높은 정점 방향의 간선만 따라가는 양방향 탐색을 한다.
+ * 찾은 경로의 지름길 간선은 축약된 가운데 정점을 따라 원래 구간으로 풀어내고, 원래 간선마다 기억해 둔 그래프의 간선 번호를 함께 돌려준다.
+ */
+public class ContractionHierarchiesPathEngine implements PathEngine {
+    private static final int NO_MIDDLE = -1;
+    private static final int NO_EDGE = -1;
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final int[] ranks;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] middles;
+    private final int[] originalEdges;
+
+    private ContractionHierarchiesPathEngine(int[] ranks, int[] offsets, int[] targets, int[] weights, int[] middles,
+                                             int[] originalEdges) {
+        this.ranks = ranks;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.middles = middles;
+        this.originalEdges = originalEdges;
+    }
+
+    public static ContractionHierarchiesPathEngine of(SubwayGraph graph) {
+        return new Preprocessor(graph).contract();
+    }
+
+    @Override
+    public GraphPath find(int source, int target) {
+        SearchSpace forward = SearchSpace.forCurrentThread(SearchSpace.PRIMARY, ranks.length);
+        SearchSpace backward = SearchSpace.forCurrentThread(SearchSpace.SECONDARY, ranks.length);
+        forward.reset();
+        backward.reset();
+
+        forward.update(source, 0, -1, -1);
+        forward.heap.insertOrDecrease(source, 0);
+        backward.update(target, 0, -1, -1);
+        backward.heap.insertOrDecrease(target, 0);
+
+        int best = SearchSpace.INFINITY;
+        int meeting = -1;
+        while (true) {
+            boolean forwardActive = !forward.heap.isEmpty() && forward.heap.peekKey() < best;
+            boolean backwardActive = !backward.heap.isEmpty() && backward.heap.peekKey() < best;
+            if (!forwardActive && !backwardActive) {
+                break;
+            }
+            boolean forwardTurn = forwardActive
+                    && (!backwardActive || forward.heap.peekKey() <= backward.heap.peekKey());
+            SearchSpace current = forwardTurn ? forward : backward;
+            SearchSpace opposite = forwardTurn ? backward : forward;
+
+            int vertex = current.heap.poll();
+            int distance = current.distances[vertex];
+            if (opposite.distances[vertex] != SearchSpace.INFINITY
+                    && distance + opposite.distances[vertex] < best) {
+                best = distance + opposite.distances[vertex];
+                meeting = vertex;
+            }
+            for (int edge = offsets[vertex], end = offsets[vertex + 1]; edge < end; edge++) {
+                int next = targets[edge];
+                int nextDistance = distance + weights[edge];
+                if (nextDistance < current.distances[next]) {
+                    current.update(next, nextDistance, vertex, edge);
+                    current.heap.insertOrDecrease(next, nextDistance);
+                }
+            }
+        }
+        if (meeting < 0) {
+            return null;
+        }
+        IntList vertices = new IntList();
+        IntList edges = new IntList();
+        unpack(forward, backward, meeting, vertices, edges);
+        return new GraphPath(vertices.toArray(), edges.toArray(), best);
+    }
+
+    @Override
+    public long memoryBytes() {
+        return (long) (ranks.length + offsets.length + targets.length + weights.length + middles.length
+                + originalEdges.length) * Integer.BYTES;
+    }
+
+    private void unpack(SearchSpace forward, SearchSpace backward, int meeting, IntList path, IntList edges) {
+        IntList upward = new IntList();
+        for (int vertex = meeting; vertex >= 0; vertex = forward.previous[vertex]) {
+            upward.add(vertex);
+        }
+        path.add(upward.get(upward.size() - 1));
+        for (int i = upward.size() - 1; i > 0; i--) {
+            unpackEdge(upward.get(i), upward.get(i - 1), path, edges);
+        }
+        for (int vertex = meeting; backward.previous[vertex] >= 0; vertex = backward.previous[vertex]) {
+            unpackEdge(vertex, backward.previous[vertex], path, edges);
+        }
+    }
+
+    private void unpackEdge(int from, int to, IntList path, IntList edges) {
+        int lower = ranks[from] < ranks[to] ? from : to;
+        int upper = lower == from ? to : from;
+        int found = -1;
+        for (int edge = offsets[lower], end = offsets[lower + 1]; edge < end; edge++) {
+            if (targets[edge] == upper && (found < 0 || weights[edge] < weights[found])) {
+                found = edge;
+            }
+        }
+        if (middles[found] == NO_MIDDLE) {
+            path.add(to);
+            edges.add(originalEdges[found]);
+            return;
+        }
+        unpackEdge(from, middles[found], path, edges);
+        unpackEdge(middles[found], to, path, edges);
+    }
+
+    /**
+     * 축약 중에는 정점마다 늘어나는 간선 목록을 두고, 끝나면 순위가 높은 쪽 간선만 CSR 배열로 옮긴다.
+     */
+    private static class Preprocessor {
+        private final int size;
+        private final IntList[] neighbors;
+        private final IntList[] edgeWeights;
+        private final IntList[] edgeMiddles;
+        private final IntList[] edgeOriginals;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] ranks;
+        private final SearchSpace witnessSpace;
+
+        private Preprocessor(SubwayGraph graph) {
+            this.size = graph.size();
+            this.neighbors = new IntList[size];
+            this.edgeWeights = new IntList[size];
+            this.edgeMiddles = new IntList[size];
+            this.edgeOriginals = new IntList[size];
+            for (int vertex = 0; vertex < size; vertex++) {
+                neighbors[vertex] = new IntList();
+                edgeWeights[vertex] = new IntList();
+                edgeMiddles[vertex] = new IntList();
+                edgeOriginals[vertex] = new IntList();
+            }
+            for (int vertex = 0; vertex < size; vertex++) {
+                for (int edge = graph.edgeStart(vertex); edge < graph.edgeEnd(vertex); edge++) {
+                    addEdge(vertex, graph.target(edge), graph.weight(edge), NO_MIDDLE, edge);
+                }
+            }
+            this.contracted = new boolean[size];
+            this.contractedNeighbors = new int[size];
+            this.ranks = new int[size];
+            this.witnessSpace = new SearchSpace(size);
+        }
+
+        private ContractionHierarchiesPathEngine contract() {
+            IndexedMinHeap queue = new IndexedMinHeap(size);
+            for (int vertex = 0; vertex < size; vertex++) {
+                queue.insertOrDecrease(vertex, priority(vertex));
+            }
+            int rank = 0;
+            while (!queue.isEmpty()) {
+                int vertex = queue.poll();
+                int priority = priority(vertex);
+                if (!queue.isEmpty() && priority > queue.peekKey()) {
+                    queue.insertOrDecrease(vertex, priority);
+                    continue;
+                }
+                contractVertex(vertex, true);
+                contracted[vertex] = true;
+                ranks[vertex] = rank++;
+                IntList adjacent = neighbors[vertex];
+                for (int i = 0; i < adjacent.size(); i++) {
+                    contractedNeighbors[adjacent.get(i)]++;
+                }
+            }
+            return toEngine();
+        }
+
+        private int priority(int vertex) {
+            int degree = 0;
+            IntList adjacent = neighbors[vertex];
+            for (int i = 0; i < adjacent.size(); i++) {
+                if (!contracted[adjacent.get(i)]) {
+                    degree++;
+                }
+            }
+            return contractVertex(vertex, false) - degree + contractedNeighbors[vertex];
+        }
+
+        /**
+         * vertex 를 축약할 때 필요한 지름길 수를 센다. apply 가 true 이면 지름길을 실제로 추가한다.
+         * 이웃 쌍 사이에 vertex 를 거치지 않고 같거나 더 짧은 경로(witness)가 있으면 지름길이 필요 없다.
+         */
+        private int contractVertex(int vertex, boolean apply) {
+            IntList adjacent = neighbors[vertex];
+            IntList weightsToVertex = edgeWeights[vertex];
+            int shortcuts = 0;
+            for (int i = 0; i < adjacent.size(); i++) {
+                int from = adjacent.get(i);
+                if (contracted[from]) {
+                    continue;
+                }
+                int maxDistance = 0;
+                for (int j = 0; j < adjacent.size(); j++) {
+                    int to = adjacent.get(j);
+                    if (to > from && !contracted[to]) {
+                        maxDistance = Math.max(maxDistance, weightsToVertex.get(i) + weightsToVertex.get(j));
+                    }
+                }
+                if (maxDistance == 0) {
+                    continue;
+                }
+                witnessSearch(from, vertex, maxDistance);
+                for (int j = 0; j < adjacent.size(); j++) {
+                    int to = adjacent.get(j);
+                    if (to <= from || contracted[to]) {
+                        continue;
+                    }
+                    int viaDistance = weightsToVertex.get(i) + weightsToVertex.get(j);
+                    if (witnessSpace.distances[to] <= viaDistance) {
+                        continue;
+                    }
+                    shortcuts++;
+                    if (apply) {
+                        addEdge(from, to, viaDistance, vertex, NO_EDGE);
+                        addEdge(to, from, viaDistance, vertex, NO_EDGE);
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        private void witnessSearch(int source, int excluded, int maxDistance) {
+            SearchSpace space = witnessSpace;
+            space.reset();
+            space.update(source, 0, -1, -1);
+            space.heap.insertOrDecrease(source, 0);
+            int settled = 0;
+            while (!space.heap.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT) {
+                int vertex = space.heap.poll();
+                int distance = space.distances[vertex];
+                if (distance > maxDistance) {
+                    break;
+                }
+                IntList adjacent = neighbors[vertex];
+                for (int i = 0; i < adjacent.size(); i++) {
+                    int next = adjacent.get(i);
+                    if (next == excluded || contracted[next]) {
+                        continue;
+                    }
+                    int nextDistance = distance + edgeWeights[vertex].get(i);
+                    if (nextDistance < space.distances[next]) {
+                        space.update(next, nextDistance, vertex, -1);
+                        space.heap.insertOrDecrease(next, nextDistance);
+                    }
+                }
+            }
+        }
+
+        /**
+         * original 은 원래 구간이면 그래프의 간선 번호, 지름길이면 NO_EDGE 이다.
+         */
+        private void addEdge(int from, int to, int weight, int middle, int original) {
+            IntList adjacent = neighbors[from];
+            for (int i = 0; i < adjacent.size(); i++) {
+                if (adjacent.get(i) == to) {
+                    if (weight < edgeWeights[from].get(i)) {
+                        edgeWeights[from].set(i, weight);
+                        edgeMiddles[from].set(i, middle);
+                        edgeOriginals[from].set(i, original);
+                    }
+                    return;
+                }
+            }
+            adjacent.add(to);
+            edgeWeights[from].add(weight);
+            edgeMiddles[from].add(middle);
+            edgeOriginals[from].add(original);
+        }
+
+        private ContractionHierarchiesPathEngine toEngine() {
+            int[] offsets = new int[size + 1];
+            for (int vertex = 0; vertex < size; vertex++) {
+                offsets[vertex + 1] = offsets[vertex] + countUpwardEdges(vertex);
+            }
+            int[] targets = new int[offsets[size]];
+            int[] weights = new int[offsets[size]];
+            int[] middles = new int[offsets[size]];
+            int[] originalEdges = new int[offsets[size]];
+            for (int vertex = 0; vertex < size; vertex++) {
+                int edge = offsets[vertex];
+                IntList adjacent = neighbors[vertex];
+                for (int i = 0; i < adjacent.size(); i++) {
+                    if (ranks[adjacent.get(i)] > ranks[vertex]) {
+                        targets[edge] = adjacent.get(i);
+                        weights[edge] = edgeWeights[vertex].get(i);
+                        middles[edge] = edgeMiddles[vertex].get(i);
+                        originalEdges[edge] = edgeOriginals[vertex].get(i);
+                        edge++;
+                    }
+                }
+            }
+            return new ContractionHierarchiesPathEngine(ranks, offsets, targets, weights, middles, originalEdges);
+        }
+
+        private int countUpwardEdges(int vertex) {
+            int count = 0;
+            IntList adjacent = neighbors[vertex];
+            for (int i = 0; i < adjacent.size(); i++) {
+                if (ranks[adjacent.get(i)] > ranks[vertex]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
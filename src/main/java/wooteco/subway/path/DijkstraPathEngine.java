@@ -0,0 +1,36 @@
+package wooteco.subway.path;
+
+public class DijkstraPathEngine implements PathEngine {
+    private final SubwayGraph graph;
+
+    public DijkstraPathEngine(SubwayGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public GraphPath find(int source, int target) {
+        SearchSpace space = SearchSpace.forCurrentThread(SearchSpace.PRIMARY, graph.size());
+        space.reset();
+        int[] distances = space.distances;
+        IndexedMinHeap heap = space.heap;
+
+        space.update(source, 0, -1, -1);
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            if (vertex == target) {
+                return space.pathTo(target);
+            }
+            int distance = distances[vertex];
+            for (int edge = graph.edgeStart(vertex), end = graph.edgeEnd(vertex); edge < end; edge++) {
+                int next = graph.target(edge);
+                int nextDistance = distance + graph.weight(edge);
+                if (nextDistance < distances[next]) {
+                    space.update(next, nextDistance, vertex, edge);
+                    heap.insertOrDecrease(next, nextDistance);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+package wooteco.subway.path;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 여러 출발역과 여러 도착역 사이의 최단 거리 행렬을 구한다.
+ * 출발역마다 최단 경로 트리를 하나씩 PathService 가 넘겨준 전용 ForkJoinPool 에서 병렬로 만들고, 도착역이 모두 확정되면 그 트리는 멈춘다.
+ * 결과는 출발역 순서대로 한 행씩 이어 붙인 1차원 배열이며, 이어지지 않은 쌍은 UNREACHABLE 이다.
+ * 음수 번호는 그래프에 없는 역이다. 같은 번호끼리는 0, 나머지와는 UNREACHABLE 이다.
+ */
+public class DistanceMatrixCalculator {
+    public static final int UNREACHABLE = -1;
+
+    private final SubwayGraph graph;
+    private final ForkJoinPool pool;
+
+    public DistanceMatrixCalculator(SubwayGraph graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    public int[] calculate(int[] sources, int[] targets) {
+        boolean[] isTarget = new boolean[graph.size()];
+        int targetCount = 0;
+        for (int target : targets) {
+            if (target >= 0 && !isTarget[target]) {
+                isTarget[target] = true;
+                targetCount++;
+            }
+        }
+        int distinctTargets = targetCount;
+        int[] matrix = new int[sources.length * targets.length];
+        ParallelRows.forEach(pool, sources.length, row -> fillRow(sources[row], targets, isTarget, distinctTargets,
+                matrix, row * targets.length));
+        return matrix;
+    }
+
+    private void fillRow(int source, int[] targets, boolean[] isTarget, int remaining, int[] matrix, int rowStart) {
+        if (source < 0) {
+            for (int column = 0; column < targets.length; column++) {
+                matrix[rowStart + column] = targets[column] == source ? 0 : UNREACHABLE;
+            }
+            return;
+        }
+        SearchSpace space = SearchSpace.forCurrentThread(SearchSpace.PRIMARY, graph.size());
+        space.reset();
+        int[] distances = space.distances;
+        IndexedMinHeap heap = space.heap;
+
+        space.update(source, 0, -1, -1);
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty() && remaining > 0) {
+            int vertex = heap.poll();
+            if (isTarget[vertex]) {
+                remaining--;
+            }
+            int distance = distances[vertex];
+            for (int edge = graph.edgeStart(vertex), end = graph.edgeEnd(vertex); edge < end; edge++) {
+                int next = graph.target(edge);
+                int nextDistance = distance + graph.weight(edge);
+                if (nextDistance < distances[next]) {
+                    space.update(next, nextDistance, vertex, edge);
+                    heap.insertOrDecrease(next, nextDistance);
+                }
+            }
+        }
+
+        for (int column = 0; column < targets.length; column++) {
+            if (targets[column] < 0) {
+                matrix[rowStart + column] = UNREACHABLE;
+                continue;
+            }
+            int distance = distances[targets[column]];
+            matrix[rowStart + column] = distance == SearchSpace.INFINITY ? UNREACHABLE : distance;
+        }
+    }
+}
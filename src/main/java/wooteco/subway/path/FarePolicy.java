@@ -0,0 +1,36 @@
+package wooteco.subway.path;
+
+/**
+ * 수도권 지하철 거리 비례 요금.
+ * 10km 까지는 기본 요금이고, 50km 까지는 5km 마다, 그 뒤로는 8km 마다 100원씩 더한 뒤 노선 추가 요금을 더한다.
+ */
+public class FarePolicy {
+    private static final int BASE_FARE = 1250;
+    private static final int BASE_DISTANCE = 10;
+    private static final int MIDDLE_DISTANCE = 50;
+    private static final int MIDDLE_UNIT_DISTANCE = 5;
+    private static final int LONG_UNIT_DISTANCE = 8;
+    private static final int UNIT_FARE = 100;
+
+    private FarePolicy() {
+    }
+
+    public static int calculate(int distance, int extraFare) {
+        return BASE_FARE + overFare(distance) + extraFare;
+    }
+
+    private static int overFare(int distance) {
+        if (distance <= BASE_DISTANCE) {
+            return 0;
+        }
+        if (distance <= MIDDLE_DISTANCE) {
+            return unitsOf(distance - BASE_DISTANCE, MIDDLE_UNIT_DISTANCE) * UNIT_FARE;
+        }
+        return unitsOf(MIDDLE_DISTANCE - BASE_DISTANCE, MIDDLE_UNIT_DISTANCE) * UNIT_FARE
+                + unitsOf(distance - MIDDLE_DISTANCE, LONG_UNIT_DISTANCE) * UNIT_FARE;
+    }
+
+    private static int unitsOf(int distance, int unitDistance) {
+        return (distance + unitDistance - 1) / unitDistance;
+    }
+}
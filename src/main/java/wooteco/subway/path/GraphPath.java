@@ -0,0 +1,29 @@
+package wooteco.subway.path;
+
+/**
+ * 정점 번호로 나타낸 경로. edges[i] 는 vertices[i] 와 vertices[i + 1] 사이에서 실제로 지난 구간의 간선 번호이다.
+ * 구간마다 방향별로 간선이 하나씩 있는데, 어느 쪽이든 같은 구간(같은 노선)을 가리킨다.
+ */
+public class GraphPath {
+    private final int[] vertices;
+    private final int[] edges;
+    private final int distance;
+
+    public GraphPath(int[] vertices, int[] edges, int distance) {
+        this.vertices = vertices;
+        this.edges = edges;
+        this.distance = distance;
+    }
+
+    public int[] getVertices() {
+        return vertices;
+    }
+
+    public int[] getEdges() {
+        return edges;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
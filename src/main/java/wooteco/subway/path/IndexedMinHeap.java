@@ -0,0 +1,101 @@
+package wooteco.subway.path;
+
+import java.util.Arrays;
+
+/**
+ * 정점 번호를 원소로, long 값을 우선순위로 갖는 이진 최소 힙.
+ * 정점마다 힙 안의 위치를 기억해 두어 우선순위를 낮추는 연산(decrease-key)을 O(log n) 에 처리한다.
+ */
+class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] positions;
+    private final long[] keys;
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long peekKey() {
+        return keys[heap[0]];
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    void insertOrDecrease(int vertex, long key) {
+        int position = positions[vertex];
+        if (position < 0) {
+            position = size++;
+            heap[position] = vertex;
+            positions[vertex] = position;
+        } else if (key >= keys[vertex]) {
+            return;
+        }
+        keys[vertex] = key;
+        siftUp(position);
+    }
+
+    int poll() {
+        int top = heap[0];
+        positions[top] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int position) {
+        int vertex = heap[position];
+        long key = keys[vertex];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentVertex = heap[parent];
+            if (keys[parentVertex] <= key) {
+                break;
+            }
+            heap[position] = parentVertex;
+            positions[parentVertex] = position;
+            position = parent;
+        }
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+
+    private void siftDown(int position) {
+        int vertex = heap[position];
+        long key = keys[vertex];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            int childVertex = heap[child];
+            if (key <= keys[childVertex]) {
+                break;
+            }
+            heap[position] = childVertex;
+            positions[childVertex] = position;
+            position = child;
+        }
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+}
@@ -0,0 +1,34 @@
+package wooteco.subway.path;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없이 int 를 담는 가변 길이 목록.
+ */
+class IntList {
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    void set(int index, int value) {
+        values[index] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,148 @@
+package wooteco.subway.path;
+
+import java.util.Arrays;
+
+/**
+ * 기준역(landmark)을 이용한 A* 경로 탐색 (ALT).
+ * 전처리에서 서로 가장 먼 역을 차례로 골라 기준역으로 삼고, 기준역마다 모든 역까지의 거리를 구해 둔다.
+ * 질의에서는 삼각 부등식으로 얻는 |d(L, t) - d(L, v)| 중 가장 큰 값을 v 에서 도착역까지 거리의 하한으로 쓴다.
+ */
+public class LandmarkPathEngine implements PathEngine {
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+
+    private final SubwayGraph graph;
+    private final int[][] landmarkDistances;
+
+    private LandmarkPathEngine(SubwayGraph graph, int[][] landmarkDistances) {
+        this.graph = graph;
+        this.landmarkDistances = landmarkDistances;
+    }
+
+    public static LandmarkPathEngine of(SubwayGraph graph) {
+        return of(graph, DEFAULT_LANDMARK_COUNT);
+    }
+
+    public static LandmarkPathEngine of(SubwayGraph graph, int landmarkCount) {
+        int count = Math.min(landmarkCount, graph.size());
+        int[][] landmarkDistances = new int[count][];
+        // 지금까지 고른 기준역 중 가장 가까운 것까지의 거리. 이 값이 가장 큰 역을 다음 기준역으로 고른다.
+        int[] nearest = new int[graph.size()];
+        Arrays.fill(nearest, SearchSpace.INFINITY);
+        int landmark = count > 0 ? farthestFrom(graph, 0) : -1;
+        for (int i = 0; i < count; i++) {
+            landmarkDistances[i] = distancesFrom(graph, landmark);
+            int next = 0;
+            for (int vertex = 0; vertex < nearest.length; vertex++) {
+                nearest[vertex] = Math.min(nearest[vertex], landmarkDistances[i][vertex]);
+                if (nearest[vertex] > nearest[next]) {
+                    next = vertex;
+                }
+            }
+            landmark = next;
+        }
+        return new LandmarkPathEngine(graph, landmarkDistances);
+    }
+
+    private static int farthestFrom(SubwayGraph graph, int source) {
+        int[] distances = distancesFrom(graph, source);
+        int farthest = source;
+        for (int vertex = 0; vertex < distances.length; vertex++) {
+            if (distances[vertex] != SearchSpace.INFINITY && distances[vertex] > distances[farthest]) {
+                farthest = vertex;
+            }
+        }
+        return farthest;
+    }
+
+    private static int[] distancesFrom(SubwayGraph graph, int source) {
+        SearchSpace space = SearchSpace.forCurrentThread(SearchSpace.PRIMARY, graph.size());
+        space.reset();
+        int[] distances = space.distances;
+        IndexedMinHeap heap = space.heap;
+        space.update(source, 0, -1, -1);
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            int distance = distances[vertex];
+            for (int edge = graph.edgeStart(vertex), end = graph.edgeEnd(vertex); edge < end; edge++) {
+                int next = graph.target(edge);
+                int nextDistance = distance + graph.weight(edge);
+                if (nextDistance < distances[next]) {
+                    space.update(next, nextDistance, vertex, edge);
+                    heap.insertOrDecrease(next, nextDistance);
+                }
+            }
+        }
+        return Arrays.copyOf(distances, graph.size());
+    }
+
+    @Override
+    public GraphPath find(int source, int target) {
+        SearchSpace space = SearchSpace.forCurrentThread(SearchSpace.PRIMARY, graph.size());
+        int[] bounds = space.labels;
+        space.reset();
+        int[] distances = space.distances;
+        IndexedMinHeap heap = space.heap;
+
+        bounds[source] = lowerBound(source, target);
+        if (bounds[source] == SearchSpace.INFINITY) {
+            return null;
+        }
+        space.update(source, 0, -1, -1);
+        heap.insertOrDecrease(source, bounds[source]);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            space.settledCount++;
+            if (vertex == target) {
+                return space.pathTo(target);
+            }
+            int distance = distances[vertex];
+            for (int edge = graph.edgeStart(vertex), end = graph.edgeEnd(vertex); edge < end; edge++) {
+                int next = graph.target(edge);
+                int nextDistance = distance + graph.weight(edge);
+                if (nextDistance >= distances[next]) {
+                    continue;
+                }
+                if (distances[next] == SearchSpace.INFINITY) {
+                    bounds[next] = lowerBound(next, target);
+                }
+                if (bounds[next] != SearchSpace.INFINITY) {
+                    space.update(next, nextDistance, vertex, edge);
+                    heap.insertOrDecrease(next, nextDistance + bounds[next]);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 같은 스레드에서 마지막으로 한 질의가 힙에서 꺼낸 정점 수. 탐색 범위를 비교하는 벤치마크에서 쓴다.
+     */
+    public int lastSettledCount() {
+        return SearchSpace.forCurrentThread(SearchSpace.PRIMARY, graph.size()).settledCount;
+    }
+
+    @Override
+    public long memoryBytes() {
+        return (long) landmarkDistances.length * graph.size() * Integer.BYTES;
+    }
+
+    /**
+     * 어느 기준역에서는 닿는데 다른 쪽은 닿지 않으면 서로 이어지지 않은 것이므로 INFINITY 를 돌려준다.
+     */
+    private int lowerBound(int vertex, int target) {
+        int bound = 0;
+        for (int[] distances : landmarkDistances) {
+            int fromLandmark = distances[vertex];
+            int toTarget = distances[target];
+            if (fromLandmark == SearchSpace.INFINITY || toTarget == SearchSpace.INFINITY) {
+                if (fromLandmark != toTarget) {
+                    return SearchSpace.INFINITY;
+                }
+                continue;
+            }
+            bound = Math.max(bound, Math.abs(toTarget - fromLandmark));
+        }
+        return bound;
+    }
+}
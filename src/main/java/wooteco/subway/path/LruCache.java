@@ -0,0 +1,95 @@
+package wooteco.subway.path;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기가 정해진 LRU 캐시. 키를 해시로 여러 조각에 나누고 조각마다 접근 순서 LinkedHashMap 을 따로 잠가
+ * 동시에 들어오는 조회끼리 한 잠금을 두고 다투지 않게 한다. 값 계산은 잠금 밖에서 한다.
+ */
+class LruCache<K, V> {
+    private final Stripe<K, V>[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    LruCache(int capacity, int stripeCount) {
+        if (capacity < 1 || stripeCount < 1) {
+            throw new IllegalArgumentException("캐시 크기와 조각 수는 1 이상이어야 합니다.");
+        }
+        int count = Integer.highestOneBit(Math.min(stripeCount, capacity));
+        int stripeCapacity = (capacity + count - 1) / count;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>(stripeCapacity, evictions);
+        }
+    }
+
+    V computeIfAbsent(K key, Function<K, V> loader) {
+        Stripe<K, V> stripe = stripeOf(key);
+        V value;
+        synchronized (stripe) {
+            value = stripe.get(key);
+        }
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = loader.apply(key);
+        synchronized (stripe) {
+            stripe.put(key, value);
+        }
+        return value;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    private Stripe<K, V> stripeOf(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static class Stripe<K, V> extends LinkedHashMap<K, V> {
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Stripe(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package wooteco.subway.path;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 행렬의 행을 나눠 채우는 작업을 전용 ForkJoinPool 안에서 돌린다.
+ * 병렬 스트림은 자신을 시작한 풀에서 작업을 나누므로, 공용 풀을 쓰는 다른 작업 뒤에 줄을 서지 않는다.
+ */
+final class ParallelRows {
+    private ParallelRows() {
+    }
+
+    /**
+     * 스레드가 parallelism 개를 넘지 않는 풀. 쉬는 스레드는 풀이 알아서 거둔다.
+     */
+    static ForkJoinPool newPool(String name, int parallelism) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    static void forEach(ForkJoinPool pool, int rowCount, IntConsumer action) {
+        pool.submit(() -> IntStream.range(0, rowCount).parallel().forEach(action)).join();
+    }
+}
@@ -0,0 +1,40 @@
+package wooteco.subway.path;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class PathController {
+    private final PathService pathService;
+
+    public PathController(PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    @GetMapping(value = "/paths", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PathResponse> findPath(@RequestParam Long source, @RequestParam Long target,
+                                                 @RequestParam(required = false) String type) {
+        if (type == null) {
+            return ResponseEntity.ok().body(pathService.findPath(source, target));
+        }
+        return ResponseEntity.ok().body(pathService.findRoute(source, target, RouteObjective.from(type)));
+    }
+
+    @GetMapping(value = "/paths/alternatives", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PathResponse>> findAlternatives(@RequestParam Long source, @RequestParam Long target,
+                                                               @RequestParam(defaultValue = "3") int k) {
+        return ResponseEntity.ok().body(pathService.findAlternatives(source, target, k));
+    }
+
+    @PostMapping(value = "/paths/matrix", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PathMatrixResponse> findDistanceMatrix(@RequestBody PathMatrixRequest request) {
+        return ResponseEntity.ok().body(pathService.findDistanceMatrix(request));
+    }
+}
@@ -0,0 +1,21 @@
+package wooteco.subway.path;
+
+public interface PathEngine {
+    /**
+     * source 정점에서 target 정점까지의 최단 경로를 찾는다. 이어지지 않으면 null 을 반환한다.
+     */
+    GraphPath find(int source, int target);
+
+    /**
+     * 미리 계산해 둔 탐색 자료가 차지하는 메모리 크기(바이트). 전처리가 없는 방식은 0 이다.
+     */
+    default long memoryBytes() {
+        return 0;
+    }
+
+    /**
+     * 더는 새 질의를 받지 않는 엔진의 자료를 놓는다. 이미 시작한 질의는 끝까지 답한다. 놓을 자료가 없는 방식은 아무것도 하지 않는다.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,71 @@
+package wooteco.subway.path;
+
+public enum PathEngineType {
+    DIJKSTRA(false) {
+        @Override
+        public PathEngine create(SubwayGraph graph) {
+            return new DijkstraPathEngine(graph);
+        }
+    },
+    CH(true) {
+        @Override
+        public PathEngine create(SubwayGraph graph) {
+            return ContractionHierarchiesPathEngine.of(graph);
+        }
+    },
+    APSP(true) {
+        @Override
+        public PathEngine create(SubwayGraph graph) {
+            return create(graph, null);
+        }
+
+        @Override
+        public PathEngine create(SubwayGraph graph, PathEngine previous) {
+            // 행렬을 두기에 역이 너무 많으면 메모리를 역 수에 비례해 쓰는 CH 로 대신한다.
+            if (graph.size() > AllPairsPathEngine.MAX_STATIONS) {
+                return ContractionHierarchiesPathEngine.of(graph);
+            }
+            if (previous instanceof AllPairsPathEngine) {
+                return AllPairsPathEngine.of(graph, (AllPairsPathEngine) previous);
+            }
+            return AllPairsPathEngine.of(graph);
+        }
+    },
+    ALT(true) {
+        @Override
+        public PathEngine create(SubwayGraph graph) {
+            return LandmarkPathEngine.of(graph);
+        }
+    };
+
+    private final boolean preprocessed;
+
+    PathEngineType(boolean preprocessed) {
+        this.preprocessed = preprocessed;
+    }
+
+    public static PathEngineType from(String name) {
+        for (PathEngineType type : values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 경로 탐색 방식입니다. (engine: " + name + ")");
+    }
+
+    /**
+     * 전처리가 필요한 방식은 그래프가 바뀔 때 백그라운드에서 만들고, 그동안은 다익스트라로 응답한다.
+     */
+    public boolean isPreprocessed() {
+        return preprocessed;
+    }
+
+    public abstract PathEngine create(SubwayGraph graph);
+
+    /**
+     * previous 는 바로 전 그래프로 만들어 지금 쓰고 있는 엔진이다. 넘겨받아 다시 쓸 자원이 있는 방식만 이를 쓴다.
+     */
+    public PathEngine create(SubwayGraph graph, PathEngine previous) {
+        return create(graph);
+    }
+}
@@ -0,0 +1,36 @@
+package wooteco.subway.path;
+
+import java.util.Objects;
+
+/**
+ * 경로 조회 결과 캐시의 키. 노선도 스냅샷의 버전을 함께 담아 역이나 구간이 바뀌면 예전 결과는 더 이상 꺼내지 않는다.
+ */
+class PathKey {
+    private final long source;
+    private final long target;
+    private final RouteObjective objective;
+    private final long networkVersion;
+
+    PathKey(long source, long target, RouteObjective objective, long networkVersion) {
+        this.source = source;
+        this.target = target;
+        this.objective = objective;
+        this.networkVersion = networkVersion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PathKey pathKey = (PathKey) o;
+        return source == pathKey.source
+                && target == pathKey.target
+                && networkVersion == pathKey.networkVersion
+                && objective == pathKey.objective;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, target, objective, networkVersion);
+    }
+}
@@ -0,0 +1,24 @@
+package wooteco.subway.path;
+
+import java.util.List;
+
+public class PathMatrixRequest {
+    private List<Long> sources;
+    private List<Long> targets;
+
+    public PathMatrixRequest() {
+    }
+
+    public PathMatrixRequest(List<Long> sources, List<Long> targets) {
+        this.sources = sources;
+        this.targets = targets;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+}
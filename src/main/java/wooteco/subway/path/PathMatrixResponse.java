@@ -0,0 +1,33 @@
+package wooteco.subway.path;
+
+import java.util.List;
+
+/**
+ * distances 는 sources 순서대로 targets 길이만큼씩 이어 붙인 거리이며, 이어지지 않은 쌍은 -1 이다.
+ */
+public class PathMatrixResponse {
+    private List<Long> sources;
+    private List<Long> targets;
+    private int[] distances;
+
+    public PathMatrixResponse() {
+    }
+
+    public PathMatrixResponse(List<Long> sources, List<Long> targets, int[] distances) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public int[] getDistances() {
+        return distances;
+    }
+}
@@ -0,0 +1,44 @@
+package wooteco.subway.path;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import wooteco.subway.station.StationResponse;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PathResponse {
+    private List<StationResponse> stations;
+    private int distance;
+    private int fare;
+    private Integer transferCount;
+
+    public PathResponse() {
+    }
+
+    public PathResponse(List<StationResponse> stations, int distance, int fare) {
+        this(stations, distance, fare, null);
+    }
+
+    public PathResponse(List<StationResponse> stations, int distance, int fare, Integer transferCount) {
+        this.stations = stations;
+        this.distance = distance;
+        this.fare = fare;
+        this.transferCount = transferCount;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+
+    public Integer getTransferCount() {
+        return transferCount;
+    }
+}
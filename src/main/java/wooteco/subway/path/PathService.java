@@ -0,0 +1,347 @@
+package wooteco.subway.path;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import wooteco.subway.map.NetworkSnapshot;
+import wooteco.subway.map.NetworkSnapshots;
+import wooteco.subway.station.Station;
+import wooteco.subway.station.StationResponse;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class PathService {
+    private static final int MAX_ALTERNATIVES = 10;
+    private static final int MAX_MATRIX_STATIONS = 1000;
+    // 역 목록에는 있지만 어느 노선에도 놓이지 않아 그래프에 없는 역
+    private static final int ISOLATED = -1;
+
+    private final NetworkSnapshots networkSnapshots;
+    private final PathEngineType engineType;
+    private final int transferPenalty;
+    private final LruCache<PathKey, PathResponse> pathCache;
+    private final ExecutorService preprocessor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "path-preprocessor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 거리 행렬의 행을 채우는 전용 풀. APSP 전처리와 공용 풀을 나눠 쓰지 않는다.
+    private final ForkJoinPool matrixPool;
+    private final AtomicReference<VersionedGraph> versionedGraph = new AtomicReference<>();
+    // 마지막으로 끼워 넣은 전처리 엔진. 전처리 스레드만 읽고 쓴다.
+    private PathEngine lastPreprocessed;
+
+    public PathService(NetworkSnapshots networkSnapshots,
+                       @Value("${subway.path.engine:dijkstra}") String engineType,
+                       @Value("${subway.path.transfer-penalty:0}") int transferPenalty,
+                       @Value("${subway.path.cache.size:10000}") int cacheSize,
+                       @Value("${subway.path.cache.stripes:16}") int cacheStripes,
+                       @Value("${subway.path.matrix.parallelism:4}") int matrixParallelism,
+                       MeterRegistry meterRegistry) {
+        this.networkSnapshots = networkSnapshots;
+        this.engineType = PathEngineType.from(engineType);
+        this.transferPenalty = transferPenalty;
+        this.pathCache = new LruCache<>(cacheSize, cacheStripes);
+        this.matrixPool = ParallelRows.newPool("path-matrix", matrixParallelism);
+        registerMetrics(meterRegistry);
+    }
+
+    public PathResponse findPath(Long sourceStationId, Long targetStationId) {
+        return findCached(sourceStationId, targetStationId, null);
+    }
+
+    public PathResponse findRoute(Long sourceStationId, Long targetStationId, RouteObjective objective) {
+        return findCached(sourceStationId, targetStationId, objective);
+    }
+
+    public List<PathResponse> findAlternatives(Long sourceStationId, Long targetStationId, int k) {
+        validateNotSame(sourceStationId, targetStationId);
+        if (k < 1 || k > MAX_ALTERNATIVES) {
+            throw new IllegalArgumentException("경로 개수는 1 이상 " + MAX_ALTERNATIVES + " 이하여야 합니다. (k: " + k + ")");
+        }
+        VersionedGraph current = currentGraph();
+        SubwayGraph graph = current.graph;
+        int source = indexOf(graph, sourceStationId);
+        int target = indexOf(graph, targetStationId);
+        if (source == ISOLATED || target == ISOLATED) {
+            throw notConnected();
+        }
+        List<GraphPath> paths = current.alternativePathFinder.find(source, target, k);
+        if (paths.isEmpty()) {
+            throw notConnected();
+        }
+        List<PathResponse> responses = new ArrayList<>(paths.size());
+        for (GraphPath path : paths) {
+            responses.add(toPathResponse(graph, path));
+        }
+        return responses;
+    }
+
+    public PathMatrixResponse findDistanceMatrix(PathMatrixRequest request) {
+        List<Long> sources = request.getSources();
+        List<Long> targets = request.getTargets();
+        validateMatrixStations(sources);
+        validateMatrixStations(targets);
+        VersionedGraph current = currentGraph();
+        SubwayGraph graph = current.graph;
+        Map<Long, Integer> isolatedIndexes = new HashMap<>();
+        int[] matrix = current.distanceMatrixCalculator.calculate(
+                indexesOf(graph, sources, isolatedIndexes),
+                indexesOf(graph, targets, isolatedIndexes));
+        return new PathMatrixResponse(sources, targets, matrix);
+    }
+
+    public List<ReachableStationResponse> findReachableStations(Long stationId, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("거리는 0 이상이어야 합니다. (maxDistance: " + maxDistance + ")");
+        }
+        VersionedGraph current = currentGraph();
+        SubwayGraph graph = current.graph;
+        int source = indexOf(graph, stationId);
+        if (source == ISOLATED) {
+            return new ArrayList<>();
+        }
+        Reachability reachability = current.reachabilitySearcher.search(source, maxDistance);
+        int[] vertices = reachability.getVertices();
+        int[] distances = reachability.getDistances();
+        List<ReachableStationResponse> stations = new ArrayList<>(vertices.length - 1);
+        for (int i = 1; i < vertices.length; i++) {
+            Station station = graph.stationAt(vertices[i]);
+            stations.add(new ReachableStationResponse(station.getId(), station.getName(), distances[i]));
+        }
+        return stations;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        preprocessor.shutdownNow();
+        matrixPool.shutdownNow();
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("subway.path.engine.memory", this, PathService::engineMemoryBytes)
+                .description("경로 탐색 전처리 자료가 차지하는 메모리")
+                .baseUnit("bytes")
+                .tag("engine", engineType.name().toLowerCase())
+                .register(meterRegistry);
+        FunctionCounter.builder("subway.path.cache.requests", pathCache, LruCache::hitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("subway.path.cache.requests", pathCache, LruCache::missCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("subway.path.cache.evictions", pathCache, LruCache::evictionCount)
+                .register(meterRegistry);
+        Gauge.builder("subway.path.cache.size", pathCache, LruCache::size)
+                .register(meterRegistry);
+    }
+
+    private PathResponse findCached(Long sourceStationId, Long targetStationId, RouteObjective objective) {
+        validateNotSame(sourceStationId, targetStationId);
+        VersionedGraph current = currentGraph();
+        int source = indexOf(current.graph, sourceStationId);
+        int target = indexOf(current.graph, targetStationId);
+        if (source == ISOLATED || target == ISOLATED) {
+            throw notConnected();
+        }
+        PathKey key = new PathKey(sourceStationId, targetStationId, objective, current.version);
+        return pathCache.computeIfAbsent(key, ignored -> {
+            if (objective == null) {
+                return searchPath(current, source, target);
+            }
+            return searchRoute(current, source, target, objective);
+        });
+    }
+
+    private PathResponse searchPath(VersionedGraph current, int source, int target) {
+        SubwayGraph graph = current.graph;
+        GraphPath path = current.engine.find(source, target);
+        if (path == null) {
+            throw notConnected();
+        }
+        return toPathResponse(graph, path);
+    }
+
+    private PathResponse searchRoute(VersionedGraph current, int source, int target, RouteObjective objective) {
+        SubwayGraph graph = current.graph;
+        Route route = current.transferRouter.find(source, target, objective, transferPenalty);
+        if (route == null) {
+            throw notConnected();
+        }
+        return toPathResponse(graph, route.getVertices(), route.getDistance(), route.getExtraFare(),
+                route.getTransferCount());
+    }
+
+    private double engineMemoryBytes() {
+        VersionedGraph current = versionedGraph.get();
+        if (current == null) {
+            return 0;
+        }
+        return current.engine.memoryBytes();
+    }
+
+    private void validateNotSame(Long sourceStationId, Long targetStationId) {
+        if (sourceStationId.equals(targetStationId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+    }
+
+    private void validateMatrixStations(List<Long> stationIds) {
+        if (stationIds == null || stationIds.isEmpty() || stationIds.size() > MAX_MATRIX_STATIONS) {
+            throw new IllegalArgumentException("출발역과 도착역은 각각 1개 이상 " + MAX_MATRIX_STATIONS + "개 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * 그래프에 없는 역에는 역마다 다른 음수 번호를 붙인다. 같은 역끼리만 거리가 0 이 된다.
+     */
+    private int[] indexesOf(SubwayGraph graph, List<Long> stationIds, Map<Long, Integer> isolatedIndexes) {
+        int[] indexes = new int[stationIds.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            Long stationId = stationIds.get(i);
+            int index = indexOf(graph, stationId);
+            if (index == ISOLATED) {
+                index = isolatedIndexes.computeIfAbsent(stationId, ignored -> -1 - isolatedIndexes.size());
+            }
+            indexes[i] = index;
+        }
+        return indexes;
+    }
+
+    private int indexOf(SubwayGraph graph, Long stationId) {
+        int index = graph.indexOf(stationId);
+        if (index >= 0) {
+            return index;
+        }
+        if (!networkSnapshots.stationCatalog().contains(stationId)) {
+            throw new IllegalArgumentException("존재하지 않는 지하철역입니다. (id: " + stationId + ")");
+        }
+        return ISOLATED;
+    }
+
+    private IllegalArgumentException notConnected() {
+        return new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+    }
+
+    /**
+     * 경로가 실제로 지난 간선의 추가 요금 중 가장 큰 값을 요금에 더한다.
+     */
+    private PathResponse toPathResponse(SubwayGraph graph, GraphPath path) {
+        int extraFare = 0;
+        for (int edge : path.getEdges()) {
+            extraFare = Math.max(extraFare, graph.extraFare(edge));
+        }
+        return toPathResponse(graph, path.getVertices(), path.getDistance(), extraFare, null);
+    }
+
+    private PathResponse toPathResponse(SubwayGraph graph, int[] vertices, int distance, int extraFare,
+                                        Integer transferCount) {
+        List<StationResponse> stations = new ArrayList<>(vertices.length);
+        for (int vertex : vertices) {
+            Station station = graph.stationAt(vertex);
+            stations.add(new StationResponse(station.getId(), station.getName()));
+        }
+        return new PathResponse(stations, distance, FarePolicy.calculate(distance, extraFare), transferCount);
+    }
+
+    /**
+     * 스냅샷이 바뀌었으면 새 그래프로 만든 탐색 자료를 compareAndSet 으로 바꿔 끼운다.
+     * 동시에 들어온 조회가 같은 자료를 한 번 더 만들 수는 있어도 서로를 기다리지는 않는다.
+     * 역만 바뀐 스냅샷은 노선 버전이 그대로이므로 그래프도 경로 캐시도 그대로 쓴다.
+     * 간선이 그대로이면(노선 이름, 색, 추가 요금만 바뀐 경우) 전처리한 엔진을 그대로 넘겨받는다.
+     * 바꿔 끼우지 못하면 그 사이 끼워진 자료를 기준으로 다시 만든다. 넘겨받으려던 엔진은 이미 물러났을 수 있다.
+     */
+    private VersionedGraph currentGraph() {
+        NetworkSnapshot snapshot = networkSnapshots.current();
+        VersionedGraph current = versionedGraph.get();
+        while (current == null || current.version < snapshot.getLineVersion()) {
+            VersionedGraph built = build(snapshot, current);
+            if (versionedGraph.compareAndSet(current, built)) {
+                if (!built.ready) {
+                    preprocessor.execute(() -> preprocess(built));
+                }
+                return built;
+            }
+            current = versionedGraph.get();
+        }
+        return current;
+    }
+
+    private VersionedGraph build(NetworkSnapshot snapshot, VersionedGraph previous) {
+        SubwayGraph graph = snapshot.getGraph();
+        PathEngine engine;
+        boolean ready = true;
+        if (previous != null && previous.ready && previous.graph.hasSameEdges(graph)) {
+            engine = previous.engine;
+        } else if (engineType.isPreprocessed()) {
+            engine = new DijkstraPathEngine(graph);
+            ready = false;
+        } else {
+            engine = engineType.create(graph);
+        }
+        return new VersionedGraph(snapshot.getLineVersion(), graph, engine, ready,
+                new TransferRouter(TransferGraph.of(graph, snapshot.getSectionsByLine(), snapshot.getLineExtraFares())),
+                new AlternativePathFinder(graph), new DistanceMatrixCalculator(graph, matrixPool),
+                new ReachabilitySearcher(graph));
+    }
+
+    /**
+     * 새 엔진을 끼우면 물러난 엔진을 닫아 자료를 놓게 한다. 끼우지 못한 엔진도 바로 닫는다.
+     */
+    private void preprocess(VersionedGraph interim) {
+        if (versionedGraph.get() != interim) {
+            return;
+        }
+        PathEngine engine = engineType.create(interim.graph, lastPreprocessed);
+        if (!versionedGraph.compareAndSet(interim, interim.withEngine(engine))) {
+            engine.close();
+            return;
+        }
+        if (lastPreprocessed != null) {
+            lastPreprocessed.close();
+        }
+        lastPreprocessed = engine;
+    }
+
+    private static class VersionedGraph {
+        private final long version;
+        private final SubwayGraph graph;
+        private final PathEngine engine;
+        // 최종 엔진이면 true, 전처리를 기다리며 다익스트라로 답하는 중이면 false
+        private final boolean ready;
+        private final TransferRouter transferRouter;
+        private final AlternativePathFinder alternativePathFinder;
+        private final DistanceMatrixCalculator distanceMatrixCalculator;
+        private final ReachabilitySearcher reachabilitySearcher;
+
+        private VersionedGraph(long version, SubwayGraph graph, PathEngine engine, boolean ready,
+                               TransferRouter transferRouter, AlternativePathFinder alternativePathFinder,
+                               DistanceMatrixCalculator distanceMatrixCalculator,
+                               ReachabilitySearcher reachabilitySearcher) {
+            this.version = version;
+            this.graph = graph;
+            this.engine = engine;
+            this.ready = ready;
+            this.transferRouter = transferRouter;
+            this.alternativePathFinder = alternativePathFinder;
+            this.distanceMatrixCalculator = distanceMatrixCalculator;
+            this.reachabilitySearcher = reachabilitySearcher;
+        }
+
+        private VersionedGraph withEngine(PathEngine engine) {
+            return new VersionedGraph(version, graph, engine, true, transferRouter,
+                    alternativePathFinder, distanceMatrixCalculator, reachabilitySearcher);
+        }
+    }
+}
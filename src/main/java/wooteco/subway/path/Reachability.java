@@ -0,0 +1,22 @@
+package wooteco.subway.path;
+
+/**
+ * 출발 정점을 포함해 닿은 정점과 그 거리를 가까운 순서대로 담는다.
+ */
+public class Reachability {
+    private final int[] vertices;
+    private final int[] distances;
+
+    public Reachability(int[] vertices, int[] distances) {
+        this.vertices = vertices;
+        this.distances = distances;
+    }
+
+    public int[] getVertices() {
+        return vertices;
+    }
+
+    public int[] getDistances() {
+        return distances;
+    }
+}
@@ -0,0 +1,47 @@
+package wooteco.subway.path;
+
+import java.util.Arrays;
+
+/**
+ * 한 역에서 거리 예산 안에 닿는 역을 가까운 순서대로 찾는 다익스트라.
+ * 예산을 넘는 정점은 힙에 넣지 않고, 스레드마다 공유하는 작업 배열을 재사용해 질의마다 정점별 객체를 만들지 않는다.
+ */
+public class ReachabilitySearcher {
+    private final SubwayGraph graph;
+
+    public ReachabilitySearcher(SubwayGraph graph) {
+        this.graph = graph;
+    }
+
+    public Reachability search(int source, int maxDistance) {
+        SearchSpace space = SearchSpace.forCurrentThread(SearchSpace.PRIMARY, graph.size());
+        int[] settled = space.order;
+        space.reset();
+        int[] distances = space.distances;
+        IndexedMinHeap heap = space.heap;
+        int settledCount = 0;
+
+        space.update(source, 0, -1, -1);
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            settled[settledCount++] = vertex;
+            int distance = distances[vertex];
+            for (int edge = graph.edgeStart(vertex), end = graph.edgeEnd(vertex); edge < end; edge++) {
+                int next = graph.target(edge);
+                int nextDistance = distance + graph.weight(edge);
+                if (nextDistance <= maxDistance && nextDistance < distances[next]) {
+                    space.update(next, nextDistance, vertex, edge);
+                    heap.insertOrDecrease(next, nextDistance);
+                }
+            }
+        }
+
+        int[] vertices = Arrays.copyOf(settled, settledCount);
+        int[] reachedDistances = new int[settledCount];
+        for (int i = 0; i < settledCount; i++) {
+            reachedDistances[i] = distances[vertices[i]];
+        }
+        return new Reachability(vertices, reachedDistances);
+    }
+}
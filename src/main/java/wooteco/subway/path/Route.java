@@ -0,0 +1,34 @@
+package wooteco.subway.path;
+
+public class Route {
+    private final int[] vertices;
+    private final int distance;
+    private final int transferCount;
+    private final int extraFare;
+
+    public Route(int[] vertices, int distance, int transferCount, int extraFare) {
+        this.vertices = vertices;
+        this.distance = distance;
+        this.transferCount = transferCount;
+        this.extraFare = extraFare;
+    }
+
+    public int[] getVertices() {
+        return vertices;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+
+    /**
+     * 경로가 실제로 탄 노선의 추가 요금 중 가장 큰 값
+     */
+    public int getExtraFare() {
+        return extraFare;
+    }
+}
@@ -0,0 +1,15 @@
+package wooteco.subway.path;
+
+public enum RouteObjective {
+    DISTANCE,
+    TRANSFER;
+
+    public static RouteObjective from(String name) {
+        for (RouteObjective objective : values()) {
+            if (objective.name().equalsIgnoreCase(name)) {
+                return objective;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 경로 조회 기준입니다. (type: " + name + ")");
+    }
+}
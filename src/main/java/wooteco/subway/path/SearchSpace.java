@@ -0,0 +1,98 @@
+package wooteco.subway.path;
+
+import java.util.Arrays;
+
+/**
+ * 최단 경로 탐색 한 번에 쓰는 정점별 작업 배열.
+ * 스레드마다 용도(slot)별로 하나씩 두고 모든 엔진이 함께 재사용하며, 탐색이 끝나면 건드린 정점만 되돌려 다음 탐색을 준비한다.
+ * 그래프가 바뀌어도 새로 만들지 않고, 지금보다 큰 그래프를 탐색할 때만 늘린다.
+ */
+class SearchSpace {
+    static final int INFINITY = Integer.MAX_VALUE;
+    static final int PRIMARY = 0;
+    static final int SECONDARY = 1;
+
+    private static final ThreadLocal<SearchSpace[]> SPACES = ThreadLocal.withInitial(() -> new SearchSpace[2]);
+
+    final int[] distances;
+    final int[] previous;
+    // 직전 정점에서 이 정점으로 올 때 지난 간선 번호
+    final int[] previousEdges;
+    final IndexedMinHeap heap;
+    // 확정 순서처럼 정점 번호를 차례로 담는 버퍼. reset 으로 지워지지 않는다.
+    final int[] order;
+    // 하한이나 첫 정점처럼 탐색마다 다르게 쓰는 정점별 값. 쓰는 쪽이 읽기 전에 채운다.
+    final int[] labels;
+    // 막힌 정점 표시처럼 쓰는 정점별 표시. 쓰는 쪽이 켠 만큼 다시 끈다.
+    final boolean[] marks;
+    int settledCount;
+    private final int[] touched;
+    private int touchedCount;
+
+    SearchSpace(int size) {
+        this.distances = new int[size];
+        this.previous = new int[size];
+        this.previousEdges = new int[size];
+        this.heap = new IndexedMinHeap(size);
+        this.order = new int[size];
+        this.labels = new int[size];
+        this.marks = new boolean[size];
+        this.touched = new int[size];
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(previous, -1);
+    }
+
+    /**
+     * 현재 스레드가 slot 용도로 쓰는 작업 배열을 돌려준다. size 개 정점을 담지 못하면 넉넉히 늘려 새로 만든다.
+     */
+    static SearchSpace forCurrentThread(int slot, int size) {
+        SearchSpace[] spaces = SPACES.get();
+        SearchSpace space = spaces[slot];
+        if (space == null || space.capacity() < size) {
+            int capacity = space == null ? size : Math.max(size, space.capacity() + (space.capacity() >> 1));
+            space = new SearchSpace(capacity);
+            spaces[slot] = space;
+        }
+        return space;
+    }
+
+    int capacity() {
+        return distances.length;
+    }
+
+    void reset() {
+        for (int i = 0; i < touchedCount; i++) {
+            int vertex = touched[i];
+            distances[vertex] = INFINITY;
+            previous[vertex] = -1;
+        }
+        touchedCount = 0;
+        settledCount = 0;
+        heap.clear();
+    }
+
+    void update(int vertex, int distance, int from, int edge) {
+        if (distances[vertex] == INFINITY) {
+            touched[touchedCount++] = vertex;
+        }
+        distances[vertex] = distance;
+        previous[vertex] = from;
+        previousEdges[vertex] = edge;
+    }
+
+    GraphPath pathTo(int target) {
+        int length = 0;
+        for (int vertex = target; vertex >= 0; vertex = previous[vertex]) {
+            length++;
+        }
+        int[] vertices = new int[length];
+        int[] edges = new int[length - 1];
+        for (int vertex = target, i = length - 1; vertex >= 0; vertex = previous[vertex], i--) {
+            vertices[i] = vertex;
+            if (i > 0) {
+                edges[i - 1] = previousEdges[vertex];
+            }
+        }
+        return new GraphPath(vertices, edges, distances[target]);
+    }
+}
@@ -0,0 +1,148 @@
+package wooteco.subway.path;
+
+import wooteco.subway.line.Section;
+import wooteco.subway.station.Station;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모든 노선의 구간으로 만든 무방향 그래프.
+ * 지하철역 아이디를 0 부터 시작하는 정점 번호로 바꾸고, 간선은 CSR(compressed sparse row) 형식의 int 배열에 담는다.
+ * 정점 v 의 간선은 offsets[v] 부터 offsets[v + 1] 직전까지이다. 간선마다 그 구간이 속한 노선의 추가 요금을 함께 둔다.
+ */
+public class SubwayGraph {
+    private final Station[] stations;
+    private final Map<Long, Integer> indexes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] extraFares;
+
+    private SubwayGraph(Station[] stations, Map<Long, Integer> indexes, int[] offsets, int[] targets, int[] weights,
+                        int[] extraFares) {
+        this.stations = stations;
+        this.indexes = indexes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.extraFares = extraFares;
+    }
+
+    public static SubwayGraph of(List<Station> stations, List<Section> sections) {
+        return of(stations, sections, new int[sections.size()]);
+    }
+
+    /**
+     * sectionExtraFares[i] 는 sections 의 i 번째 구간이 속한 노선의 추가 요금이다.
+     */
+    public static SubwayGraph of(List<Station> stations, List<Section> sections, int[] sectionExtraFares) {
+        Station[] vertices = stations.toArray(new Station[0]);
+        Map<Long, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < vertices.length; i++) {
+            indexes.put(vertices[i].getId(), i);
+        }
+
+        int[] ups = new int[sections.size()];
+        int[] downs = new int[sections.size()];
+        int[] distances = new int[sections.size()];
+        int[] fares = new int[sections.size()];
+        int[] offsets = new int[vertices.length + 1];
+        int edgeCount = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            Integer up = indexes.get(section.getUpStationId());
+            Integer down = indexes.get(section.getDownStationId());
+            if (up == null || down == null) {
+                continue;
+            }
+            ups[edgeCount] = up;
+            downs[edgeCount] = down;
+            distances[edgeCount] = section.getDistance();
+            fares[edgeCount] = sectionExtraFares[i];
+            offsets[up + 1]++;
+            offsets[down + 1]++;
+            edgeCount++;
+        }
+        for (int i = 0; i < vertices.length; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[edgeCount * 2];
+        int[] weights = new int[edgeCount * 2];
+        int[] extraFares = new int[edgeCount * 2];
+        int[] cursor = new int[vertices.length];
+        System.arraycopy(offsets, 0, cursor, 0, vertices.length);
+        for (int i = 0; i < edgeCount; i++) {
+            int upEdge = cursor[ups[i]]++;
+            targets[upEdge] = downs[i];
+            weights[upEdge] = distances[i];
+            extraFares[upEdge] = fares[i];
+            int downEdge = cursor[downs[i]]++;
+            targets[downEdge] = ups[i];
+            weights[downEdge] = distances[i];
+            extraFares[downEdge] = fares[i];
+        }
+        return new SubwayGraph(vertices, indexes, offsets, targets, weights, extraFares);
+    }
+
+    /**
+     * 정점 순서와 간선(목적지, 거리)이 모두 같은지 비교한다. 같으면 한쪽으로 만든 전처리 결과를 다른 쪽에도 그대로 쓸 수 있다.
+     * 추가 요금은 비교하지 않는다.
+     */
+    public boolean hasSameEdges(SubwayGraph other) {
+        if (stations.length != other.stations.length || !Arrays.equals(offsets, other.offsets)
+                || !Arrays.equals(targets, other.targets) || !Arrays.equals(weights, other.weights)) {
+            return false;
+        }
+        for (int i = 0; i < stations.length; i++) {
+            if (!stations[i].getId().equals(other.stations[i].getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return stations.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public int indexOf(Long stationId) {
+        Integer index = indexes.get(stationId);
+        if (index == null) {
+            return -1;
+        }
+        return index;
+    }
+
+    public Station stationAt(int index) {
+        return stations[index];
+    }
+
+    public int edgeStart(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int edgeEnd(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights[edge];
+    }
+
+    public int extraFare(int edge) {
+        return extraFares[edge];
+    }
+
+}
@@ -0,0 +1,189 @@
+package wooteco.subway.path;
+
+import wooteco.subway.line.Section;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (지하철역, 노선) 쌍을 정점으로 하는 환승 그래프.
+ * 같은 노선의 구간은 거리 간선으로, 같은 역의 다른 노선 정점끼리는 환승 간선으로 잇는다.
+ * 간선과 역별 정점 목록은 SubwayGraph 와 같은 CSR 형식의 int 배열에 담는다. 거리 간선에는 그 노선의 추가 요금을 함께 둔다.
+ */
+public class TransferGraph {
+    private final int[] stationOf;
+    private final int[] stationOffsets;
+    private final int[] stationNodes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] distances;
+    private final boolean[] transfers;
+    private final int[] extraFares;
+
+    private TransferGraph(int[] stationOf, int[] stationOffsets, int[] stationNodes, int[] offsets,
+                          int[] targets, int[] distances, boolean[] transfers, int[] extraFares) {
+        this.stationOf = stationOf;
+        this.stationOffsets = stationOffsets;
+        this.stationNodes = stationNodes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.distances = distances;
+        this.transfers = transfers;
+        this.extraFares = extraFares;
+    }
+
+    public static TransferGraph of(SubwayGraph graph, List<List<Section>> sectionsByLine) {
+        return of(graph, sectionsByLine, new int[sectionsByLine.size()]);
+    }
+
+    /**
+     * lineExtraFares[i] 는 sectionsByLine 의 i 번째 노선의 추가 요금이다.
+     */
+    public static TransferGraph of(SubwayGraph graph, List<List<Section>> sectionsByLine, int[] lineExtraFares) {
+        Builder builder = new Builder(graph);
+        for (int line = 0; line < sectionsByLine.size(); line++) {
+            List<Section> sections = sectionsByLine.get(line);
+            Map<Integer, Integer> nodesOfLine = new HashMap<>();
+            for (Section section : sections) {
+                int up = graph.indexOf(section.getUpStationId());
+                int down = graph.indexOf(section.getDownStationId());
+                if (up < 0 || down < 0) {
+                    continue;
+                }
+                int upNode = nodesOfLine.computeIfAbsent(up, builder::addNode);
+                int downNode = nodesOfLine.computeIfAbsent(down, builder::addNode);
+                builder.addEdge(upNode, downNode, section.getDistance(), false, lineExtraFares[line]);
+            }
+        }
+        return builder.build();
+    }
+
+    public int nodeCount() {
+        return stationOf.length;
+    }
+
+    public int stationOf(int node) {
+        return stationOf[node];
+    }
+
+    public int stationNodeStart(int station) {
+        return stationOffsets[station];
+    }
+
+    public int stationNodeEnd(int station) {
+        return stationOffsets[station + 1];
+    }
+
+    public int stationNode(int index) {
+        return stationNodes[index];
+    }
+
+    public int edgeStart(int node) {
+        return offsets[node];
+    }
+
+    public int edgeEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int distance(int edge) {
+        return distances[edge];
+    }
+
+    public boolean isTransfer(int edge) {
+        return transfers[edge];
+    }
+
+    public int extraFare(int edge) {
+        return extraFares[edge];
+    }
+
+    private static class Builder {
+        private final int stationCount;
+        private final IntList nodeStations = new IntList();
+        private final IntList edgeFroms = new IntList();
+        private final IntList edgeTos = new IntList();
+        private final IntList edgeDistances = new IntList();
+        private final IntList edgeTransfers = new IntList();
+        private final IntList edgeExtraFares = new IntList();
+
+        private Builder(SubwayGraph graph) {
+            this.stationCount = graph.size();
+        }
+
+        private int addNode(int station) {
+            nodeStations.add(station);
+            return nodeStations.size() - 1;
+        }
+
+        private void addEdge(int from, int to, int distance, boolean transfer, int extraFare) {
+            edgeFroms.add(from);
+            edgeTos.add(to);
+            edgeDistances.add(distance);
+            edgeTransfers.add(transfer ? 1 : 0);
+            edgeExtraFares.add(extraFare);
+        }
+
+        private TransferGraph build() {
+            int nodeCount = nodeStations.size();
+            int[] stationOf = nodeStations.toArray();
+            int[] stationOffsets = new int[stationCount + 1];
+            for (int node = 0; node < nodeCount; node++) {
+                stationOffsets[stationOf[node] + 1]++;
+            }
+            for (int station = 0; station < stationCount; station++) {
+                stationOffsets[station + 1] += stationOffsets[station];
+            }
+            int[] stationNodes = new int[nodeCount];
+            int[] stationCursor = Arrays.copyOf(stationOffsets, stationCount);
+            for (int node = 0; node < nodeCount; node++) {
+                stationNodes[stationCursor[stationOf[node]]++] = node;
+            }
+            for (int station = 0; station < stationCount; station++) {
+                for (int i = stationOffsets[station]; i < stationOffsets[station + 1]; i++) {
+                    for (int j = i + 1; j < stationOffsets[station + 1]; j++) {
+                        addEdge(stationNodes[i], stationNodes[j], 0, true, 0);
+                    }
+                }
+            }
+
+            int edgeCount = edgeFroms.size();
+            int[] offsets = new int[nodeCount + 1];
+            for (int i = 0; i < edgeCount; i++) {
+                offsets[edgeFroms.get(i) + 1]++;
+                offsets[edgeTos.get(i) + 1]++;
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                offsets[node + 1] += offsets[node];
+            }
+            int[] targets = new int[edgeCount * 2];
+            int[] distances = new int[edgeCount * 2];
+            boolean[] transfers = new boolean[edgeCount * 2];
+            int[] extraFares = new int[edgeCount * 2];
+            int[] cursor = Arrays.copyOf(offsets, nodeCount);
+            for (int i = 0; i < edgeCount; i++) {
+                int from = edgeFroms.get(i);
+                int to = edgeTos.get(i);
+                boolean transfer = edgeTransfers.get(i) == 1;
+                int forward = cursor[from]++;
+                targets[forward] = to;
+                distances[forward] = edgeDistances.get(i);
+                transfers[forward] = transfer;
+                extraFares[forward] = edgeExtraFares.get(i);
+                int backward = cursor[to]++;
+                targets[backward] = from;
+                distances[backward] = edgeDistances.get(i);
+                transfers[backward] = transfer;
+                extraFares[backward] = edgeExtraFares.get(i);
+            }
+            return new TransferGraph(stationOf, stationOffsets, stationNodes, offsets, targets, distances, transfers,
+                    extraFares);
+        }
+    }
+}
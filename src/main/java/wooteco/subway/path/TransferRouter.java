@@ -0,0 +1,83 @@
+package wooteco.subway.path;
+
+/**
+ * 환승 그래프 위의 다익스트라 탐색.
+ * 출발역의 모든 노선 정점에서 동시에 시작해 도착역의 정점 중 하나가 확정되면 멈춘다.
+ * 정점마다 (환승 횟수, 구간 거리) 쌍을 기억하고, 거리 기준은 구간 거리에 환승 한 번마다 transferPenalty 를 더한 값을,
+ * 환승 기준은 환승 횟수를 먼저 비교한 뒤 같으면 거리를 비교한 순서를 비용으로 삼는다.
+ */
+public class TransferRouter {
+    private final TransferGraph graph;
+
+    public TransferRouter(TransferGraph graph) {
+        this.graph = graph;
+    }
+
+    public Route find(int source, int target, RouteObjective objective, int transferPenalty) {
+        SearchSpace space = SearchSpace.forCurrentThread(SearchSpace.PRIMARY, graph.nodeCount());
+        space.reset();
+        int[] distances = space.distances;
+        int[] transfers = space.labels;
+        IndexedMinHeap heap = space.heap;
+
+        for (int i = graph.stationNodeStart(source); i < graph.stationNodeEnd(source); i++) {
+            int node = graph.stationNode(i);
+            space.update(node, 0, -1, -1);
+            transfers[node] = 0;
+            heap.insertOrDecrease(node, 0);
+        }
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            if (graph.stationOf(node) == target) {
+                return toRoute(space, node);
+            }
+            for (int edge = graph.edgeStart(node), end = graph.edgeEnd(node); edge < end; edge++) {
+                int next = graph.target(edge);
+                boolean transfer = graph.isTransfer(edge);
+                int nextDistance = distances[node] + (transfer ? 0 : graph.distance(edge));
+                int nextTransfers = transfers[node] + (transfer ? 1 : 0);
+                long nextCost = cost(objective, transferPenalty, nextTransfers, nextDistance);
+                if (distances[next] == SearchSpace.INFINITY
+                        || nextCost < cost(objective, transferPenalty, transfers[next], distances[next])) {
+                    space.update(next, nextDistance, node, edge);
+                    transfers[next] = nextTransfers;
+                    heap.insertOrDecrease(next, nextCost);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 환승 기준이면 환승 횟수를 상위 32비트, 거리를 하위 32비트에 두어 사전순 비교가 되게 한다.
+     */
+    private static long cost(RouteObjective objective, int transferPenalty, int transfers, int distance) {
+        if (objective == RouteObjective.TRANSFER) {
+            return (long) transfers << Integer.SIZE | distance;
+        }
+        return distance + (long) transfers * transferPenalty;
+    }
+
+    private Route toRoute(SearchSpace space, int last) {
+        int length = 0;
+        int extraFare = 0;
+        for (int node = last; node >= 0; node = space.previous[node]) {
+            int previous = space.previous[node];
+            if (previous < 0 || graph.stationOf(previous) != graph.stationOf(node)) {
+                length++;
+            }
+            if (previous >= 0) {
+                extraFare = Math.max(extraFare, graph.extraFare(space.previousEdges[node]));
+            }
+        }
+        int[] vertices = new int[length];
+        int i = length - 1;
+        for (int node = last; node >= 0; node = space.previous[node]) {
+            int previous = space.previous[node];
+            if (previous < 0 || graph.stationOf(previous) != graph.stationOf(node)) {
+                vertices[i--] = graph.stationOf(node);
+            }
+        }
+        return new Route(vertices, space.distances[last], space.labels[last], extraFare);
+    }
+}
@@ -0,0 +1,105 @@
+package wooteco.subway.station;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "subway.station-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryStationDao implements StationDao {
+    private final AtomicLong seq = new AtomicLong();
+    // 재시작 후 이전 실행의 버전과 겹치지 않도록 시작 시각부터 센다.
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private final Map<Long, Station> stations = new ConcurrentHashMap<>();
+    private final Map<String, Station> stationsByName = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Long, Station> orderedStations = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Station save(Station station) {
+        Station persistStation = station.withId(seq.incrementAndGet());
+        if (stationsByName.putIfAbsent(persistStation.getName(), persistStation) != null) {
+            throw duplicateName(station.getName());
+        }
+        stations.put(persistStation.getId(), persistStation);
+        orderedStations.put(persistStation.getId(), persistStation);
+        version.incrementAndGet();
+        return persistStation;
+    }
+
+    @Override
+    public List<Station> saveAll(List<Station> stations) {
+        Set<String> names = new HashSet<>();
+        for (Station station : stations) {
+            if (!names.add(station.getName())) {
+                throw duplicateName(station.getName());
+            }
+        }
+
+        List<Station> persistStations = new ArrayList<>(stations.size());
+        for (Station station : stations) {
+            Station persistStation = station.withId(seq.incrementAndGet());
+            if (stationsByName.putIfAbsent(persistStation.getName(), persistStation) != null) {
+                persistStations.forEach(it -> stationsByName.remove(it.getName(), it));
+                throw duplicateName(station.getName());
+            }
+            persistStations.add(persistStation);
+        }
+        for (Station persistStation : persistStations) {
+            this.stations.put(persistStation.getId(), persistStation);
+            orderedStations.put(persistStation.getId(), persistStation);
+        }
+        version.incrementAndGet();
+        return persistStations;
+    }
+
+    @Override
+    public List<Station> findAll() {
+        return new ArrayList<>(orderedStations.values());
+    }
+
+    @Override
+    public List<Station> findAllAfter(long afterId, int limit) {
+        List<Station> result = new ArrayList<>(limit);
+        Iterator<Station> iterator = orderedStations.tailMap(afterId, false).values().iterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        return Optional.ofNullable(stations.get(id));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        Station station = stations.remove(id);
+        if (station == null) {
+            throw new IllegalArgumentException("존재하지 않는 지하철역입니다. (id: " + id + ")");
+        }
+        orderedStations.remove(id);
+        stationsByName.remove(station.getName(), station);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    private IllegalArgumentException duplicateName(String name) {
+        return new IllegalArgumentException("이미 존재하는 지하철역 이름입니다. (name: " + name + ")");
+    }
+}
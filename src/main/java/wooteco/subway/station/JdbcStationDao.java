@@ -0,0 +1,130 @@
+package wooteco.subway.station;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+@ConditionalOnProperty(name = "subway.station-store", havingValue = "jdbc")
+public class JdbcStationDao implements StationDao {
+    private static final RowMapper<Station> STATION_ROW_MAPPER =
+            (rs, rowNum) -> new Station(rs.getLong("id"), rs.getString("name"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public JdbcStationDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    @Transactional
+    public Station save(Station station) {
+        String sql = "INSERT INTO station (name) VALUES (?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
+                ps.setString(1, station.getName());
+                return ps;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            throw duplicateName(station.getName());
+        }
+        increaseVersion();
+        return station.withId(keyHolder.getKey().longValue());
+    }
+
+    @Override
+    @Transactional
+    public List<Station> saveAll(List<Station> stations) {
+        String sql = "INSERT INTO station (name) VALUES (?)";
+        List<Object[]> batchArgs = stations.stream()
+                .map(it -> new Object[]{it.getName()})
+                .collect(Collectors.toList());
+        try {
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("이미 존재하는 지하철역 이름이 포함되어 있습니다.", e);
+        }
+        increaseVersion();
+
+        List<String> names = stations.stream()
+                .map(Station::getName)
+                .collect(Collectors.toList());
+        Map<String, Station> saved = findAllByNames(names);
+        return names.stream()
+                .map(saved::get)
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Station> findAllByNames(List<String> names) {
+        if (names.isEmpty()) {
+            return new HashMap<>();
+        }
+        String sql = "SELECT id, name FROM station WHERE name IN (:names)";
+        MapSqlParameterSource params = new MapSqlParameterSource("names", names);
+        return namedParameterJdbcTemplate.query(sql, params, STATION_ROW_MAPPER).stream()
+                .collect(Collectors.toMap(Station::getName, Function.identity()));
+    }
+
+    @Override
+    public List<Station> findAll() {
+        String sql = "SELECT id, name FROM station ORDER BY id";
+        return jdbcTemplate.query(sql, STATION_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Station> findAllAfter(long afterId, int limit) {
+        String sql = "SELECT id, name FROM station WHERE id > ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, STATION_ROW_MAPPER, afterId, limit);
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        String sql = "SELECT id, name FROM station WHERE id = ?";
+        return jdbcTemplate.query(sql, STATION_ROW_MAPPER, id).stream()
+                .findAny();
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        String sql = "DELETE FROM station WHERE id = ?";
+        if (jdbcTemplate.update(sql, id) == 0) {
+            throw new IllegalArgumentException("존재하지 않는 지하철역입니다. (id: " + id + ")");
+        }
+        increaseVersion();
+    }
+
+    @Override
+    public long version() {
+        String sql = "SELECT version FROM station_version";
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private void increaseVersion() {
+        String sql = "UPDATE station_version SET version = version + 1";
+        jdbcTemplate.update(sql);
+    }
+
+    private IllegalArgumentException duplicateName(String name) {
+        return new IllegalArgumentException("이미 존재하는 지하철역 이름입니다. (name: " + name + ")");
+    }
+}
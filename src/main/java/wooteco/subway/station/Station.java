@@ -16,6 +16,10 @@ public class Station {
         this.name = name;
     }
 
+    public Station withId(Long id) {
+        return new Station(id, name);
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,106 @@
+package wooteco.subway.station;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 저장소의 한 버전에 해당하는 지하철역 목록.
+ * 만들 때는 버전만 정하고, 목록과 이름 검색 색인, GET /stations 응답 본문은 각각 처음 필요할 때 한 번만 만든다.
+ * 그래서 역을 하나 더할 때마다 목록 전체를 다시 읽거나 정렬하지 않는다.
+ */
+public class StationCatalog {
+    private final long version;
+    private final Supplier<List<Station>> loader;
+    private final StationJsonWriter stationJsonWriter;
+    private volatile Stations stations;
+    private volatile StationSearchIndex searchIndex;
+    private volatile byte[] json;
+
+    /**
+     * loader 는 아이디 순으로 정렬된 목록을 돌려줘야 한다. (StationDao.findAll 의 순서)
+     * version 은 loader 가 읽기 전에 읽은 값이어야 한다. 그래야 목록이 버전보다 오래되는 일이 없다.
+     */
+    public StationCatalog(long version, Supplier<List<Station>> loader, StationJsonWriter stationJsonWriter) {
+        this.version = version;
+        this.loader = loader;
+        this.stationJsonWriter = stationJsonWriter;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getETag() {
+        return "\"" + version + "\"";
+    }
+
+    public List<Station> getStations() {
+        return stations().list;
+    }
+
+    public Optional<Station> findById(Long id) {
+        return Optional.ofNullable(stations().byId.get(id));
+    }
+
+    public boolean contains(Long id) {
+        return stations().byId.containsKey(id);
+    }
+
+    public List<Station> search(String prefix, int limit) {
+        StationSearchIndex index = searchIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = searchIndex;
+                if (index == null) {
+                    index = StationSearchIndex.of(getStations());
+                    searchIndex = index;
+                }
+            }
+        }
+        return index.search(prefix, limit);
+    }
+
+    public byte[] getJson() {
+        byte[] body = json;
+        if (body == null) {
+            synchronized (this) {
+                body = json;
+                if (body == null) {
+                    body = stationJsonWriter.write(getStations());
+                    json = body;
+                }
+            }
+        }
+        return body;
+    }
+
+    private Stations stations() {
+        Stations loaded = stations;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = stations;
+                if (loaded == null) {
+                    loaded = new Stations(loader.get());
+                    stations = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static class Stations {
+        private final List<Station> list;
+        private final Map<Long, Station> byId = new HashMap<>();
+
+        private Stations(List<Station> stations) {
+            this.list = Collections.unmodifiableList(stations);
+            for (Station station : stations) {
+                byId.put(station.getId(), station);
+            }
+        }
+    }
+}
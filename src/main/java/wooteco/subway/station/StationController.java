@@ -1,8 +1,14 @@
 package wooteco.subway.station;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import wooteco.subway.line.LineService;
+import wooteco.subway.map.NetworkSnapshots;
+import wooteco.subway.path.PathService;
+import wooteco.subway.path.ReachableStationResponse;
 
 import java.net.URI;
 import java.util.List;
@@ -10,26 +16,95 @@ import java.util.stream.Collectors;
 
 @RestController
 public class StationController {
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    private final StationDao stationDao;
+    private final LineService lineService;
+    private final PathService pathService;
+    private final NetworkSnapshots networkSnapshots;
+
+    public StationController(StationDao stationDao, LineService lineService, PathService pathService,
+                             NetworkSnapshots networkSnapshots) {
+        this.stationDao = stationDao;
+        this.lineService = lineService;
+        this.pathService = pathService;
+        this.networkSnapshots = networkSnapshots;
+    }
 
     @PostMapping("/stations")
     public ResponseEntity<StationResponse> createStation(@RequestBody StationRequest stationRequest) {
         Station station = new Station(stationRequest.getName());
-        Station newStation = StationDao.save(station);
+        Station newStation = networkSnapshots.writeStations(() -> stationDao.save(station));
         StationResponse stationResponse = new StationResponse(newStation.getId(), newStation.getName());
         return ResponseEntity.created(URI.create("/stations/" + newStation.getId())).body(stationResponse);
     }
 
+    @PostMapping("/stations/bulk")
+    public ResponseEntity<List<StationResponse>> createStations(@RequestBody List<StationRequest> stationRequests) {
+        List<Station> stations = stationRequests.stream()
+                .map(it -> new Station(it.getName()))
+                .collect(Collectors.toList());
+        List<StationResponse> stationResponses = networkSnapshots.writeStations(() -> stationDao.saveAll(stations))
+                .stream()
+                .map(it -> new StationResponse(it.getId(), it.getName()))
+                .collect(Collectors.toList());
+        return ResponseEntity.status(HttpStatus.CREATED).body(stationResponses);
+    }
+
     @GetMapping(value = "/stations", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StationResponse>> showStations() {
-        List<Station> stations = StationDao.findAll();
-        List<StationResponse> stationResponses = stations.stream()
+    public ResponseEntity<byte[]> showStations(WebRequest webRequest) {
+        StationCatalog stationCatalog = networkSnapshots.stationCatalog();
+        String eTag = stationCatalog.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stationCatalog.getJson());
+    }
+
+    @GetMapping(value = "/stations", params = "limit", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<StationResponse>> showStations(@RequestParam(defaultValue = "0") long afterId,
+                                                              @RequestParam int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit 은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다. (limit: " + limit + ")");
+        }
+        List<StationResponse> stationResponses = stationDao.findAllAfter(afterId, limit).stream()
+                .map(it -> new StationResponse(it.getId(), it.getName()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok().body(stationResponses);
+    }
+
+    @GetMapping(value = "/stations/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<StationResponse>> searchStations(@RequestParam String prefix,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        if (limit <= 0 || limit > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("limit 은 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다. (limit: " + limit + ")");
+        }
+        List<StationResponse> stationResponses = networkSnapshots.stationCatalog()
+                .search(prefix.trim(), limit).stream()
                 .map(it -> new StationResponse(it.getId(), it.getName()))
                 .collect(Collectors.toList());
         return ResponseEntity.ok().body(stationResponses);
     }
 
+    @GetMapping(value = "/stations/{id}/reachable", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ReachableStationResponse>> showReachableStations(@PathVariable Long id,
+                                                                                @RequestParam int maxDistance) {
+        return ResponseEntity.ok().body(pathService.findReachableStations(id, maxDistance));
+    }
+
     @DeleteMapping("/stations/{id}")
     public ResponseEntity deleteStation(@PathVariable Long id) {
+        networkSnapshots.writeStations(() -> {
+            if (!stationDao.findById(id).isPresent()) {
+                throw new IllegalArgumentException("존재하지 않는 지하철역입니다. (id: " + id + ")");
+            }
+            lineService.removeStationFromLines(id);
+            stationDao.deleteById(id);
+        });
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,30 +1,20 @@
 package wooteco.subway.station;
 
-import org.springframework.util.ReflectionUtils;
-
-import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-public class StationDao {
-    private static Long seq = 0L;
-    private static List<Station> stations = new ArrayList<>();
-
-    public static Station save(Station station) {
-        Station persistStation = createNewObject(station);
-        stations.add(persistStation);
-        return persistStation;
-    }
-
-    public static List<Station> findAll() {
-        return stations;
-    }
-
-    private static Station createNewObject(Station station) {
-        Field field = ReflectionUtils.findField(Station.class, "id");
-        field.setAccessible(true);
-        ReflectionUtils.setField(field, station, ++seq);
-        return station;
-    }
+public interface StationDao {
+    Station save(Station station);
+
+    List<Station> saveAll(List<Station> stations);
+
+    List<Station> findAll();
+
+    List<Station> findAllAfter(long afterId, int limit);
+
+    Optional<Station> findById(Long id);
+
+    void deleteById(Long id);
+
+    long version();
 }
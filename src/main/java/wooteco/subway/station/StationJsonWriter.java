@@ -0,0 +1,46 @@
+package wooteco.subway.station;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Component
+public class StationJsonWriter {
+    private final ObjectMapper objectMapper;
+
+    public StationJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public byte[] write(List<Station> stations) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            write(stations, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    public void write(List<Station> stations, OutputStream outputStream) throws IOException {
+        OutputStream target = StreamUtils.nonClosing(outputStream);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            for (Station station : stations) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", station.getId());
+                generator.writeStringField("name", station.getName());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package wooteco.subway.station;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 지하철역 이름의 접두어 검색을 위한 불변 색인.
+ * 이름과 초성 문자열을 각각 정렬해 두고 이진 탐색으로 접두어 범위를 찾는다.
+ * 마지막 글자가 입력 중인 음절이면(예: "강나", "강ㄴ") 그 글자로 완성될 수 있는 음절 범위까지 함께 찾는다.
+ */
+public class StationSearchIndex {
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int SYLLABLES_PER_CHOSEONG = JUNGSEONG_COUNT * JONGSEONG_COUNT;
+    private static final String CHOSEONGS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private final Entry[] byName;
+    private final Entry[] byChoseong;
+
+    private StationSearchIndex(Entry[] byName, Entry[] byChoseong) {
+        this.byName = byName;
+        this.byChoseong = byChoseong;
+    }
+
+    public static StationSearchIndex of(Collection<Station> stations) {
+        Entry[] byName = new Entry[stations.size()];
+        Entry[] byChoseong = new Entry[stations.size()];
+        int i = 0;
+        for (Station station : stations) {
+            byName[i] = new Entry(station.getName(), station);
+            byChoseong[i] = new Entry(toChoseong(station.getName()), station);
+            i++;
+        }
+        Arrays.sort(byName, Comparator.comparing(entry -> entry.key));
+        Arrays.sort(byChoseong, Comparator.comparing(entry -> entry.key));
+        return new StationSearchIndex(byName, byChoseong);
+    }
+
+    public List<Station> search(String prefix, int limit) {
+        if (prefix.isEmpty()) {
+            return collect(byName, 0, byName.length, limit);
+        }
+        if (isChoseongOnly(prefix)) {
+            return collect(byChoseong, lowerBound(byChoseong, prefix), lowerBound(byChoseong, upperKey(prefix)), limit);
+        }
+
+        String head = prefix.substring(0, prefix.length() - 1);
+        char last = prefix.charAt(prefix.length() - 1);
+        String from = head + firstCompletion(last);
+        String to = head + (char) (lastCompletion(last) + 1);
+        return collect(byName, lowerBound(byName, from), lowerBound(byName, to), limit);
+    }
+
+    private static List<Station> collect(Entry[] entries, int from, int to, int limit) {
+        int end = Math.min(to, from + limit);
+        List<Station> result = new ArrayList<>(Math.max(end - from, 0));
+        for (int i = from; i < end; i++) {
+            result.add(entries[i].station);
+        }
+        return result;
+    }
+
+    private static int lowerBound(Entry[] entries, String key) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].key.compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String upperKey(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+
+    private static char firstCompletion(char last) {
+        int choseong = CHOSEONGS.indexOf(last);
+        if (choseong >= 0) {
+            return (char) (HANGUL_BEGIN + choseong * SYLLABLES_PER_CHOSEONG);
+        }
+        return last;
+    }
+
+    private static char lastCompletion(char last) {
+        int choseong = CHOSEONGS.indexOf(last);
+        if (choseong >= 0) {
+            return (char) (HANGUL_BEGIN + (choseong + 1) * SYLLABLES_PER_CHOSEONG - 1);
+        }
+        if (isHangulSyllable(last) && (last - HANGUL_BEGIN) % JONGSEONG_COUNT == 0) {
+            return (char) (last + JONGSEONG_COUNT - 1);
+        }
+        return last;
+    }
+
+    private static boolean isChoseongOnly(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (CHOSEONGS.indexOf(value.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toChoseong(String name) {
+        StringBuilder builder = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (isHangulSyllable(c)) {
+                builder.append(CHOSEONGS.charAt((c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSEONG));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BEGIN && c <= HANGUL_END;
+    }
+
+    private static class Entry {
+        private final String key;
+        private final Station station;
+
+        private Entry(String key, Station station) {
+            this.key = key;
+            this.station = station;
+        }
+    }
+}
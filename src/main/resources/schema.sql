@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS station
+(
+    id   BIGINT AUTO_INCREMENT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_station_name ON station (name);
+
+CREATE TABLE IF NOT EXISTS station_version
+(
+    version BIGINT NOT NULL
+);
+
+INSERT INTO station_version (version)
+SELECT 0 FROM DUAL WHERE NOT EXISTS (SELECT * FROM station_version);
@@ -0,0 +1,228 @@
+package wooteco.subway.line;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import wooteco.subway.AcceptanceTest;
+import wooteco.subway.station.StationResponse;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 노선 관련 기능")
+public class LineAcceptanceTest extends AcceptanceTest {
+    private Long gangnamId;
+    private Long yeoksamId;
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        gangnamId = createStation("강남역");
+        yeoksamId = createStation("역삼역");
+    }
+
+    @DisplayName("지하철 노선을 생성한다.")
+    @Test
+    void createLine() {
+        // when
+        ExtractableResponse<Response> response = createLine("2호선", "bg-green-600", gangnamId, yeoksamId, 10);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.header("Location")).isNotBlank();
+        assertThat(response.as(LineResponse.class).getStations()).extracting(StationResponse::getId)
+                .containsExactly(gangnamId, yeoksamId);
+    }
+
+    @DisplayName("기존에 존재하는 노선 이름으로 노선을 생성한다.")
+    @Test
+    void createLineWithDuplicateName() {
+        // given
+        createLine("2호선", "bg-green-600", gangnamId, yeoksamId, 10);
+
+        // when
+        ExtractableResponse<Response> response = createLine("2호선", "bg-green-600", gangnamId, yeoksamId, 10);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("이름이나 색상 없이 노선을 생성한다.")
+    @Test
+    void createLineWithoutNameOrColor() {
+        // when
+        ExtractableResponse<Response> withoutName = createLine(null, "bg-green-600", gangnamId, yeoksamId, 10);
+        ExtractableResponse<Response> withBlankColor = createLine("2호선", " ", gangnamId, yeoksamId, 10);
+
+        // then
+        assertThat(withoutName.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(withBlankColor.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("존재하지 않는 지하철역으로 노선을 생성한다.")
+    @Test
+    void createLineWithNotExistingStation() {
+        // when
+        ExtractableResponse<Response> response = createLine("2호선", "bg-green-600", gangnamId, 100L, 10);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("지하철 노선 목록을 조회한다.")
+    @Test
+    void getLines() {
+        // given
+        createLine("2호선", "bg-green-600", gangnamId, yeoksamId, 10);
+        createLine("신분당선", "bg-red-600", gangnamId, yeoksamId, 10);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .get("/lines")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList(".", LineResponse.class)).extracting(LineResponse::getName)
+                .containsExactly("2호선", "신분당선");
+    }
+
+    @DisplayName("지하철 노선을 수정한다.")
+    @Test
+    void updateLine() {
+        // given
+        String uri = createLine("2호선", "bg-green-600", gangnamId, yeoksamId, 10).header("Location");
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", "3호선");
+        params.put("color", "bg-orange-600");
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .put(uri)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        LineResponse lineResponse = RestAssured.given().log().all()
+                .when()
+                .get(uri)
+                .then().log().all()
+                .extract()
+                .as(LineResponse.class);
+        assertThat(lineResponse.getName()).isEqualTo("3호선");
+        assertThat(lineResponse.getStations()).hasSize(2);
+    }
+
+    @DisplayName("추가 요금 없이 노선을 수정하면 기존 추가 요금을 유지한다.")
+    @Test
+    void updateLineWithoutExtraFare() {
+        // given
+        Map<String, Object> createParams = new HashMap<>();
+        createParams.put("name", "신분당선");
+        createParams.put("color", "bg-red-600");
+        createParams.put("upStationId", gangnamId);
+        createParams.put("downStationId", yeoksamId);
+        createParams.put("distance", 10);
+        createParams.put("extraFare", 900);
+        String uri = RestAssured.given().log().all()
+                .body(createParams)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/lines")
+                .then().log().all()
+                .extract()
+                .header("Location");
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", "신분당선");
+        params.put("color", "bg-orange-600");
+
+        // when
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .put(uri)
+                .then().log().all()
+                .extract();
+
+        // then
+        LineResponse lineResponse = RestAssured.given().log().all()
+                .when()
+                .get(uri)
+                .then().log().all()
+                .extract()
+                .as(LineResponse.class);
+        assertThat(lineResponse.getColor()).isEqualTo("bg-orange-600");
+        assertThat(lineResponse.getExtraFare()).isEqualTo(900);
+    }
+
+    @DisplayName("지하철 노선을 제거한다.")
+    @Test
+    void deleteLine() {
+        // given
+        String uri = createLine("2호선", "bg-green-600", gangnamId, yeoksamId, 10).header("Location");
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .delete(uri)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        List<LineResponse> lines = RestAssured.given().log().all()
+                .when()
+                .get("/lines")
+                .then().log().all()
+                .extract()
+                .jsonPath().getList(".", LineResponse.class);
+        assertThat(lines).isEmpty();
+    }
+
+    public static Long createStation(String name) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", name);
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract()
+                .as(StationResponse.class)
+                .getId();
+    }
+
+    public static ExtractableResponse<Response> createLine(String name, String color, Long upStationId,
+                                                           Long downStationId, int distance) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId);
+        params.put("downStationId", downStationId);
+        params.put("distance", distance);
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/lines")
+                .then().log().all()
+                .extract();
+    }
+}
@@ -0,0 +1,185 @@
+package wooteco.subway.line;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import wooteco.subway.AcceptanceTest;
+import wooteco.subway.station.StationResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static wooteco.subway.line.LineAcceptanceTest.createLine;
+import static wooteco.subway.line.LineAcceptanceTest.createStation;
+
+@DisplayName("지하철 구간 관련 기능")
+public class SectionAcceptanceTest extends AcceptanceTest {
+    private Long gangnamId;
+    private Long yeoksamId;
+    private Long seolleungId;
+    private String lineUri;
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        gangnamId = createStation("강남역");
+        yeoksamId = createStation("역삼역");
+        seolleungId = createStation("선릉역");
+        lineUri = createLine("2호선", "bg-green-600", gangnamId, seolleungId, 10).header("Location");
+    }
+
+    @DisplayName("역 사이에 구간을 추가한다.")
+    @Test
+    void addSectionBetween() {
+        // when
+        ExtractableResponse<Response> response = addSection(gangnamId, yeoksamId, 4);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(findLine().getStations()).extracting(StationResponse::getId)
+                .containsExactly(gangnamId, yeoksamId, seolleungId);
+    }
+
+    @DisplayName("하행 종점에 구간을 추가한다.")
+    @Test
+    void addSectionToDownTerminal() {
+        // given
+        Long samseongId = createStation("삼성역");
+
+        // when
+        ExtractableResponse<Response> response = addSection(seolleungId, samseongId, 5);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(findLine().getStations()).extracting(StationResponse::getId)
+                .containsExactly(gangnamId, seolleungId, samseongId);
+    }
+
+    @DisplayName("같은 노선의 두 역 사이 거리를 조회한다.")
+    @Test
+    void showDistance() {
+        // given
+        addSection(gangnamId, yeoksamId, 4);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .queryParam("source", yeoksamId)
+                .queryParam("target", seolleungId)
+                .when()
+                .get(lineUri + "/distance")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.as(DistanceResponse.class).getDistance()).isEqualTo(6);
+    }
+
+    @DisplayName("기존 구간보다 긴 구간은 역 사이에 추가할 수 없다.")
+    @Test
+    void addSectionWithLongDistance() {
+        // when
+        ExtractableResponse<Response> response = addSection(gangnamId, yeoksamId, 10);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("중간 역을 구간에서 제거한다.")
+    @Test
+    void removeSection() {
+        // given
+        addSection(gangnamId, yeoksamId, 4);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .queryParam("stationId", yeoksamId)
+                .when()
+                .delete(lineUri + "/sections")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(findLine().getStations()).extracting(StationResponse::getId)
+                .containsExactly(gangnamId, seolleungId);
+    }
+
+    @DisplayName("구간이 하나뿐인 노선의 역은 구간에서 제거할 수 없다.")
+    @Test
+    void removeSectionFromSingleSection() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .queryParam("stationId", gangnamId)
+                .when()
+                .delete(lineUri + "/sections")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("지하철역을 제거하면 등록된 노선에서도 제거된다.")
+    @Test
+    void deleteRegisteredStation() {
+        // given
+        addSection(gangnamId, yeoksamId, 4);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .delete("/stations/" + yeoksamId)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(findLine().getStations()).extracting(StationResponse::getId)
+                .containsExactly(gangnamId, seolleungId);
+    }
+
+    @DisplayName("구간이 하나뿐인 노선에 등록된 지하철역은 제거할 수 없다.")
+    @Test
+    void deleteStationOfSingleSectionLine() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .delete("/stations/" + gangnamId)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private ExtractableResponse<Response> addSection(Long upStationId, Long downStationId, int distance) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("upStationId", upStationId);
+        params.put("downStationId", downStationId);
+        params.put("distance", distance);
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post(lineUri + "/sections")
+                .then().log().all()
+                .extract();
+    }
+
+    private LineResponse findLine() {
+        return RestAssured.given().log().all()
+                .when()
+                .get(lineUri)
+                .then().log().all()
+                .extract()
+                .as(LineResponse.class);
+    }
+}
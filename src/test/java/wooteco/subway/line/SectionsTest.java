@@ -0,0 +1,111 @@
+package wooteco.subway.line;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("노선 구간")
+class SectionsTest {
+    private Sections sections;
+
+    @BeforeEach
+    void setUp() {
+        sections = new Sections(1L, 2L, 10);
+    }
+
+    @DisplayName("상행 종점과 하행 종점에 구간을 추가한다.")
+    @Test
+    void addToTerminals() {
+        sections.add(2L, 3L, 5);
+        sections.add(4L, 1L, 5);
+
+        assertThat(sections.stationIds()).containsExactly(4L, 1L, 2L, 3L);
+    }
+
+    @DisplayName("역 사이에 구간을 추가한다.")
+    @Test
+    void addBetween() {
+        sections.add(1L, 3L, 4);
+        sections.add(4L, 2L, 3);
+
+        assertThat(sections.stationIds()).containsExactly(1L, 3L, 4L, 2L);
+    }
+
+    @DisplayName("역 사이에 기존 구간보다 길거나 같은 구간은 추가할 수 없다.")
+    @Test
+    void addBetweenWithLongDistance() {
+        assertThatThrownBy(() -> sections.add(1L, 3L, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("두 역이 모두 등록되어 있거나 모두 없으면 추가할 수 없다.")
+    @Test
+    void addWithInvalidStations() {
+        assertThatThrownBy(() -> sections.add(1L, 2L, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sections.add(3L, 4L, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("구간이 바뀔 때만 역 목록을 새로 만들고 버전을 올린다.")
+    @Test
+    void stationIdsAreRebuiltOnlyWhenModified() {
+        int version = sections.version();
+        assertThat(sections.stationIds()).isSameAs(sections.stationIds());
+
+        sections.add(2L, 3L, 5);
+
+        assertThat(sections.version()).isGreaterThan(version);
+        assertThat(sections.stationIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("중간 역을 제거하면 양옆 구간이 하나로 합쳐진다.")
+    @Test
+    void removeBetween() {
+        sections.add(1L, 3L, 4);
+        sections.add(3L, 4L, 2);
+
+        sections.remove(3L);
+        sections.add(1L, 5L, 5);
+
+        assertThat(sections.stationIds()).containsExactly(1L, 5L, 4L, 2L);
+        assertThatThrownBy(() -> sections.add(5L, 6L, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("종점을 제거한다.")
+    @Test
+    void removeTerminals() {
+        sections.add(2L, 3L, 5);
+        sections.add(4L, 1L, 5);
+
+        sections.remove(4L);
+        sections.remove(3L);
+
+        assertThat(sections.stationIds()).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("구간이 하나뿐이면 역을 제거할 수 없다.")
+    @Test
+    void removeFromSingleSection() {
+        assertThatThrownBy(() -> sections.remove(1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("같은 노선의 두 역 사이 거리를 구한다.")
+    @Test
+    void distance() {
+        sections.add(1L, 3L, 4);
+        sections.add(2L, 4L, 5);
+
+        assertThat(sections.distance(1L, 4L)).isEqualTo(15);
+        assertThat(sections.distance(4L, 3L)).isEqualTo(11);
+
+        sections.remove(2L);
+
+        assertThat(sections.distance(3L, 4L)).isEqualTo(11);
+    }
+}
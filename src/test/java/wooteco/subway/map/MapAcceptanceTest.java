@@ -0,0 +1,43 @@
+package wooteco.subway.map;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import wooteco.subway.AcceptanceTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static wooteco.subway.line.LineAcceptanceTest.createLine;
+import static wooteco.subway.line.LineAcceptanceTest.createStation;
+
+@DisplayName("지하철 노선도 조회")
+public class MapAcceptanceTest extends AcceptanceTest {
+    @DisplayName("노선마다 상행 종점부터 역과 다음 역까지의 거리를 조회한다.")
+    @Test
+    void showMap() {
+        // given
+        Long gangnamId = createStation("강남역");
+        Long yeoksamId = createStation("역삼역");
+        createLine("2호선", "bg-green-600", gangnamId, yeoksamId, 10);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .get("/maps")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        List<MapLineResponse> lines = response.as(MapResponse.class).getLineResponses();
+        assertThat(lines).extracting(MapLineResponse::getName).containsExactly("2호선");
+        assertThat(lines.get(0).getStations()).extracting(it -> it.getStation().getId())
+                .containsExactly(gangnamId, yeoksamId);
+        assertThat(lines.get(0).getStations()).extracting(MapSectionResponse::getDistance)
+                .containsExactly(10, null);
+    }
+}
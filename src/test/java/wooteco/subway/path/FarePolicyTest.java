@@ -0,0 +1,24 @@
+package wooteco.subway.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("거리 비례 요금")
+class FarePolicyTest {
+    @DisplayName("거리 구간마다 요금을 더한다.")
+    @ParameterizedTest
+    @CsvSource({"10,1250", "11,1350", "15,1350", "16,1450", "50,2050", "51,2150", "58,2150", "59,2250"})
+    void calculate(int distance, int expected) {
+        assertThat(FarePolicy.calculate(distance, 0)).isEqualTo(expected);
+    }
+
+    @DisplayName("노선 추가 요금을 더한다.")
+    @ParameterizedTest
+    @CsvSource({"10,900,2150", "12,500,1850"})
+    void calculateWithExtraFare(int distance, int extraFare, int expected) {
+        assertThat(FarePolicy.calculate(distance, extraFare)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,39 @@
+package wooteco.subway.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LRU 캐시")
+class LruCacheTest {
+    @DisplayName("같은 키는 한 번만 계산하고 적중 횟수를 센다.")
+    @Test
+    void computeOnce() {
+        LruCache<Integer, String> cache = new LruCache<>(10, 1);
+
+        cache.computeIfAbsent(1, key -> "first");
+        String value = cache.computeIfAbsent(1, key -> "second");
+
+        assertThat(value).isEqualTo("first");
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @DisplayName("가득 차면 가장 오래 쓰지 않은 항목을 내보낸다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        LruCache<Integer, String> cache = new LruCache<>(2, 1);
+        cache.computeIfAbsent(1, String::valueOf);
+        cache.computeIfAbsent(2, String::valueOf);
+        cache.computeIfAbsent(1, String::valueOf);
+
+        cache.computeIfAbsent(3, String::valueOf);
+        cache.computeIfAbsent(1, String::valueOf);
+        cache.computeIfAbsent(2, String::valueOf);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,293 @@
+package wooteco.subway.path;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import wooteco.subway.AcceptanceTest;
+import wooteco.subway.station.StationResponse;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static wooteco.subway.line.LineAcceptanceTest.createLine;
+import static wooteco.subway.line.LineAcceptanceTest.createStation;
+
+@DisplayName("지하철 경로 조회")
+public class PathAcceptanceTest extends AcceptanceTest {
+    private Long gangnamId;
+    private Long yangjaeId;
+    private Long gyodaeId;
+    private Long nambuTerminalId;
+    private String line2Uri;
+    private String sinbundangUri;
+
+    /**
+     * 교대역    --- 2호선(20) ---    강남역
+     * |                              |
+     * 3호선(2)                    신분당선(10)
+     * |                              |
+     * 남부터미널역 --- 3호선(3) ---   양재역
+     */
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        gangnamId = createStation("강남역");
+        yangjaeId = createStation("양재역");
+        gyodaeId = createStation("교대역");
+        nambuTerminalId = createStation("남부터미널역");
+
+        line2Uri = createLine("2호선", "bg-green-600", gyodaeId, gangnamId, 20).header("Location");
+        sinbundangUri = createLine("신분당선", "bg-red-600", gangnamId, yangjaeId, 10).header("Location");
+        String line3Uri = createLine("3호선", "bg-orange-600", gyodaeId, yangjaeId, 5).header("Location");
+        addSection(line3Uri, gyodaeId, nambuTerminalId, 2);
+    }
+
+    @DisplayName("두 역의 최단 거리 경로를 조회한다.")
+    @Test
+    void findPath() {
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, nambuTerminalId);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        PathResponse pathResponse = response.as(PathResponse.class);
+        assertThat(pathResponse.getStations()).extracting(StationResponse::getId)
+                .containsExactly(gangnamId, yangjaeId, nambuTerminalId);
+        assertThat(pathResponse.getDistance()).isEqualTo(13);
+        assertThat(pathResponse.getFare()).isEqualTo(1350);
+    }
+
+    @DisplayName("지나는 노선의 추가 요금 중 가장 큰 값을 요금에 더한다.")
+    @Test
+    void findPathWithExtraFare() {
+        // given
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", "신분당선");
+        params.put("color", "bg-red-600");
+        params.put("extraFare", 900);
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .put(sinbundangUri)
+                .then().log().all()
+                .extract();
+
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, nambuTerminalId);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.as(PathResponse.class).getFare()).isEqualTo(2250);
+    }
+
+    @DisplayName("환승이 가장 적은 경로를 조회한다.")
+    @Test
+    void findPathWithLeastTransfers() {
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, gyodaeId, "transfer");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        PathResponse pathResponse = response.as(PathResponse.class);
+        assertThat(pathResponse.getStations()).extracting(StationResponse::getId)
+                .containsExactly(gangnamId, gyodaeId);
+        assertThat(pathResponse.getDistance()).isEqualTo(20);
+        assertThat(pathResponse.getTransferCount()).isZero();
+    }
+
+    @DisplayName("나란한 구간이 있어도 실제로 탄 노선의 추가 요금만 더한다.")
+    @Test
+    void findPathWithExtraFareOfRiddenLine() {
+        // given
+        Long seochoId = createStation("서초역");
+        addSection(line2Uri, gangnamId, seochoId, 5);
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", "9호선");
+        params.put("color", "bg-yellow-600");
+        params.put("upStationId", gyodaeId);
+        params.put("downStationId", gangnamId);
+        params.put("distance", 3);
+        params.put("extraFare", 900);
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/lines")
+                .then().log().all()
+                .extract();
+
+        // when
+        PathResponse leastTransfers = findPath(gyodaeId, seochoId, "transfer").as(PathResponse.class);
+        PathResponse shortest = findPath(gyodaeId, seochoId).as(PathResponse.class);
+
+        // then
+        assertThat(leastTransfers.getDistance()).isEqualTo(25);
+        assertThat(leastTransfers.getFare()).isEqualTo(1550);
+        assertThat(shortest.getDistance()).isEqualTo(8);
+        assertThat(shortest.getFare()).isEqualTo(2150);
+    }
+
+    @DisplayName("환승 횟수와 함께 최단 거리 경로를 조회한다.")
+    @Test
+    void findPathWithTransferCount() {
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, nambuTerminalId, "distance");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        PathResponse pathResponse = response.as(PathResponse.class);
+        assertThat(pathResponse.getStations()).extracting(StationResponse::getId)
+                .containsExactly(gangnamId, yangjaeId, nambuTerminalId);
+        assertThat(pathResponse.getDistance()).isEqualTo(13);
+        assertThat(pathResponse.getTransferCount()).isEqualTo(1);
+    }
+
+    @DisplayName("구간이 바뀌면 바뀐 경로로 조회한다.")
+    @Test
+    void findPathAfterSectionAdded() {
+        // given
+        findPath(gangnamId, nambuTerminalId);
+        Long seochoId = createStation("서초역");
+        addSection(line2Uri, gyodaeId, seochoId, 1);
+
+        // when
+        ExtractableResponse<Response> response = findPath(seochoId, nambuTerminalId);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.as(PathResponse.class).getDistance()).isEqualTo(3);
+    }
+
+    @DisplayName("짧은 순서대로 다른 경로를 조회한다.")
+    @Test
+    void findAlternatives() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .queryParam("source", gangnamId)
+                .queryParam("target", nambuTerminalId)
+                .queryParam("k", 3)
+                .when()
+                .get("/paths/alternatives")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        List<PathResponse> paths = response.jsonPath().getList(".", PathResponse.class);
+        assertThat(paths).extracting(PathResponse::getDistance).containsExactly(13, 22);
+        assertThat(paths.get(1).getStations()).extracting(StationResponse::getId)
+                .containsExactly(gangnamId, gyodaeId, nambuTerminalId);
+    }
+
+    @DisplayName("여러 출발역과 도착역 사이의 거리 행렬을 조회한다.")
+    @Test
+    void findDistanceMatrix() {
+        // given
+        Long isolatedId = createStation("외딴역");
+        PathMatrixRequest request = new PathMatrixRequest(
+                Arrays.asList(gangnamId, gyodaeId),
+                Arrays.asList(nambuTerminalId, yangjaeId, isolatedId));
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(request)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/paths/matrix")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.as(PathMatrixResponse.class).getDistances())
+                .containsExactly(13, 10, -1, 2, 5, -1);
+    }
+
+    @DisplayName("거리 안에 닿는 역을 가까운 순서대로 조회한다.")
+    @Test
+    void findReachableStations() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .queryParam("maxDistance", 10)
+                .when()
+                .get("/stations/" + gyodaeId + "/reachable")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        List<ReachableStationResponse> stations = response.jsonPath().getList(".", ReachableStationResponse.class);
+        assertThat(stations).extracting(ReachableStationResponse::getId)
+                .containsExactly(nambuTerminalId, yangjaeId);
+        assertThat(stations).extracting(ReachableStationResponse::getDistance)
+                .containsExactly(2, 5);
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 경로는 조회할 수 없다.")
+    @Test
+    void findPathBetweenDisconnectedStations() {
+        // given
+        Long isolatedId = createStation("외딴역");
+
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, isolatedId);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("출발역과 도착역이 같으면 경로를 조회할 수 없다.")
+    @Test
+    void findPathWithSameStations() {
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, gangnamId);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private ExtractableResponse<Response> findPath(Long source, Long target) {
+        return RestAssured.given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when()
+                .get("/paths")
+                .then().log().all()
+                .extract();
+    }
+
+    private ExtractableResponse<Response> findPath(Long source, Long target, String type) {
+        return RestAssured.given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .queryParam("type", type)
+                .when()
+                .get("/paths")
+                .then().log().all()
+                .extract();
+    }
+
+    private void addSection(String lineUri, Long upStationId, Long downStationId, int distance) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("upStationId", upStationId);
+        params.put("downStationId", downStationId);
+        params.put("distance", distance);
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post(lineUri + "/sections")
+                .then().log().all()
+                .extract();
+    }
+}
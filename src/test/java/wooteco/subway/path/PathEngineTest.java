@@ -0,0 +1,73 @@
+package wooteco.subway.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import wooteco.subway.line.Section;
+import wooteco.subway.station.Station;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("경로 탐색 방식")
+class PathEngineTest {
+    @DisplayName("모든 방식이 다익스트라와 같은 최단 거리와 실제로 이어진 경로를 찾는다.")
+    @ParameterizedTest
+    @EnumSource(PathEngineType.class)
+    void findSameDistanceAsDijkstra(PathEngineType engineType) {
+        SubwayGraph graph = randomGraph(300, 42);
+        PathEngine expected = new DijkstraPathEngine(graph);
+        PathEngine engine = engineType.create(graph);
+
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            int source = random.nextInt(graph.size());
+            int target = random.nextInt(graph.size());
+            GraphPath expectedPath = expected.find(source, target);
+            GraphPath path = engine.find(source, target);
+
+            if (expectedPath == null) {
+                assertThat(path).isNull();
+                continue;
+            }
+            assertThat(path.getDistance()).isEqualTo(expectedPath.getDistance());
+            assertThat(path.getVertices()).startsWith(source).endsWith(target);
+            assertThat(lengthOf(graph, path.getVertices())).isEqualTo(path.getDistance());
+        }
+    }
+
+    private static SubwayGraph randomGraph(int size, long seed) {
+        Random random = new Random(seed);
+        List<Station> stations = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            stations.add(new Station((long) i + 1, "역" + i));
+        }
+        List<Section> sections = new ArrayList<>();
+        for (int i = 0; i < size * 3 / 2; i++) {
+            long up = 1 + random.nextInt(size);
+            long down = 1 + random.nextInt(size);
+            if (up != down) {
+                sections.add(new Section(up, down, 1 + random.nextInt(20)));
+            }
+        }
+        return SubwayGraph.of(stations, sections);
+    }
+
+    private static int lengthOf(SubwayGraph graph, int[] vertices) {
+        int length = 0;
+        for (int i = 0; i + 1 < vertices.length; i++) {
+            int shortest = Integer.MAX_VALUE;
+            for (int edge = graph.edgeStart(vertices[i]); edge < graph.edgeEnd(vertices[i]); edge++) {
+                if (graph.target(edge) == vertices[i + 1]) {
+                    shortest = Math.min(shortest, graph.weight(edge));
+                }
+            }
+            assertThat(shortest).isNotEqualTo(Integer.MAX_VALUE);
+            length += shortest;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,48 @@
+package wooteco.subway.station;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("지하철역 저장소")
+class InMemoryStationDaoTest {
+    @DisplayName("여러 스레드에서 동시에 저장해도 아이디가 중복되지 않고 모두 저장된다.")
+    @Test
+    void saveConcurrently() throws InterruptedException {
+        StationDao stationDao = new InMemoryStationDao();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            String name = "역" + i;
+            executor.execute(() -> stationDao.save(new Station(name)));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        List<Station> stations = stationDao.findAll();
+        Set<Long> ids = stations.stream()
+                .map(Station::getId)
+                .collect(Collectors.toSet());
+        assertThat(stations).hasSize(1000);
+        assertThat(ids).hasSize(1000);
+    }
+
+    @DisplayName("이미 존재하는 이름으로 저장하면 예외가 발생한다.")
+    @Test
+    void saveWithDuplicateName() {
+        StationDao stationDao = new InMemoryStationDao();
+        stationDao.save(new Station("강남역"));
+
+        assertThatThrownBy(() -> stationDao.save(new Station("강남역")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(stationDao.findAll()).hasSize(1);
+    }
+}
@@ -0,0 +1,68 @@
+package wooteco.subway.station;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JDBC 지하철역 저장소")
+@JdbcTest(properties = "subway.station-store=jdbc")
+@Import(JdbcStationDao.class)
+class JdbcStationDaoTest {
+    @Autowired
+    private StationDao stationDao;
+
+    @DisplayName("지하철역을 저장하면 생성된 아이디가 부여된다.")
+    @Test
+    void save() {
+        Station station = stationDao.save(new Station("강남역"));
+
+        assertThat(station.getId()).isNotNull();
+        assertThat(stationDao.findById(station.getId()).get().getName()).isEqualTo("강남역");
+        assertThat(stationDao.findAll()).extracting(Station::getName).containsExactly("강남역");
+    }
+
+    @DisplayName("이미 존재하는 이름으로 저장하면 예외가 발생한다.")
+    @Test
+    void saveWithDuplicateName() {
+        stationDao.save(new Station("강남역"));
+
+        assertThatThrownBy(() -> stationDao.save(new Station("강남역")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("여러 지하철역을 한 번에 저장한다.")
+    @Test
+    void saveAll() {
+        List<Station> stations = stationDao.saveAll(Arrays.asList(
+                new Station("강남역"),
+                new Station("역삼역"),
+                new Station("선릉역")));
+
+        assertThat(stations).extracting(Station::getName)
+                .containsExactly("강남역", "역삼역", "선릉역");
+        assertThat(stations).extracting(Station::getId)
+                .doesNotContainNull();
+        assertThat(stationDao.findAll()).hasSize(3);
+    }
+
+    @DisplayName("지하철역을 제거하면 버전이 올라간다.")
+    @Test
+    void deleteById() {
+        Station station = stationDao.save(new Station("강남역"));
+        long version = stationDao.version();
+
+        stationDao.deleteById(station.getId());
+
+        assertThat(stationDao.findById(station.getId())).isEmpty();
+        assertThat(stationDao.findAll()).extracting(Station::getName).doesNotContain("강남역");
+        assertThat(stationDao.version()).isGreaterThan(version);
+    }
+}
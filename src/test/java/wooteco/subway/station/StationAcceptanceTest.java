@@ -10,6 +10,7 @@ import org.springframework.http.MediaType;
 import wooteco.subway.AcceptanceTest;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +69,60 @@ public class StationAcceptanceTest extends AcceptanceTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
 
+    @DisplayName("여러 지하철역을 한 번에 생성한다.")
+    @Test
+    void createStations() {
+        // given
+        List<Map<String, String>> params = Arrays.asList("강남역", "역삼역", "선릉역").stream()
+                .map(it -> Collections.singletonMap("name", it))
+                .collect(Collectors.toList());
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        List<StationResponse> stationResponses = response.jsonPath().getList(".", StationResponse.class);
+        assertThat(stationResponses).extracting(StationResponse::getName)
+                .containsExactly("강남역", "역삼역", "선릉역");
+        assertThat(stationResponses).extracting(StationResponse::getId)
+                .doesNotContainNull();
+    }
+
+    @DisplayName("중복된 이름이 포함되면 어떤 지하철역도 생성하지 않는다.")
+    @Test
+    void createStationsWithDuplicateName() {
+        // given
+        List<Map<String, String>> params = Arrays.asList("강남역", "역삼역", "강남역").stream()
+                .map(it -> Collections.singletonMap("name", it))
+                .collect(Collectors.toList());
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        List<StationResponse> stationResponses = RestAssured.given().log().all()
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract()
+                .jsonPath().getList(".", StationResponse.class);
+        assertThat(stationResponses).isEmpty();
+    }
+
     @DisplayName("지하철역을 조회한다.")
     @Test
     void getStations() {
@@ -110,6 +165,153 @@ public class StationAcceptanceTest extends AcceptanceTest {
         assertThat(resultLineIds).containsAll(expectedLineIds);
     }
 
+    @DisplayName("지하철역을 아이디 커서로 나누어 조회한다.")
+    @Test
+    void getStationsByCursor() {
+        // given
+        List<Map<String, String>> params = Arrays.asList("강남역", "역삼역", "선릉역").stream()
+                .map(it -> Collections.singletonMap("name", it))
+                .collect(Collectors.toList());
+        List<Long> createdIds = RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations/bulk")
+                .then().log().all()
+                .extract()
+                .jsonPath().getList(".", StationResponse.class).stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+
+        // when
+        ExtractableResponse<Response> firstPage = RestAssured.given().log().all()
+                .queryParam("limit", 2)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+        List<StationResponse> firstStations = firstPage.jsonPath().getList(".", StationResponse.class);
+        ExtractableResponse<Response> secondPage = RestAssured.given().log().all()
+                .queryParam("afterId", firstStations.get(firstStations.size() - 1).getId())
+                .queryParam("limit", 2)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(firstPage.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(firstStations).extracting(StationResponse::getId)
+                .containsExactly(createdIds.get(0), createdIds.get(1));
+        assertThat(secondPage.jsonPath().getList(".", StationResponse.class)).extracting(StationResponse::getId)
+                .containsExactly(createdIds.get(2));
+    }
+
+    @DisplayName("이름 접두어와 초성으로 지하철역을 검색한다.")
+    @Test
+    void searchStations() {
+        // given
+        List<Map<String, String>> params = Arrays.asList("강남역", "강동역", "역삼역").stream()
+                .map(it -> Collections.singletonMap("name", it))
+                .collect(Collectors.toList());
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .queryParam("prefix", "ㄱㄴ")
+                .when()
+                .get("/stations/search")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList(".", StationResponse.class)).extracting(StationResponse::getName)
+                .containsExactly("강남역");
+    }
+
+    @DisplayName("지하철역 목록이 바뀌지 않았으면 304 를 응답한다.")
+    @Test
+    void getStationsNotModified() {
+        // given
+        Map<String, String> params = new HashMap<>();
+        params.put("name", "강남역");
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract();
+        String eTag = RestAssured.given().log().all()
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract()
+                .header("ETag");
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(eTag).isNotBlank();
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @DisplayName("지하철역이 추가되면 이전 ETag 로 조회해도 새 목록을 응답한다.")
+    @Test
+    void getStationsModified() {
+        // given
+        Map<String, String> params1 = new HashMap<>();
+        params1.put("name", "강남역");
+        RestAssured.given().log().all()
+                .body(params1)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract();
+        String eTag = RestAssured.given().log().all()
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract()
+                .header("ETag");
+        Map<String, String> params2 = new HashMap<>();
+        params2.put("name", "역삼역");
+        RestAssured.given().log().all()
+                .body(params2)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header("ETag")).isNotEqualTo(eTag);
+        assertThat(response.jsonPath().getList(".", StationResponse.class)).hasSize(2);
+    }
+
     @DisplayName("지하철역을 제거한다.")
     @Test
     void deleteStation() {
@@ -135,4 +337,57 @@ public class StationAcceptanceTest extends AcceptanceTest {
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
     }
+
+    @DisplayName("제거한 지하철역은 목록에서 빠지고 같은 이름으로 다시 생성할 수 있다.")
+    @Test
+    void deleteStationAndCreateAgain() {
+        // given
+        Map<String, String> params = new HashMap<>();
+        params.put("name", "강남역");
+        ExtractableResponse<Response> createResponse = RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract();
+        RestAssured.given().log().all()
+                .when()
+                .delete(createResponse.header("Location"))
+                .then().log().all()
+                .extract();
+
+        // when
+        List<StationResponse> stationResponses = RestAssured.given().log().all()
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract()
+                .jsonPath().getList(".", StationResponse.class);
+        ExtractableResponse<Response> recreateResponse = RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(stationResponses).isEmpty();
+        assertThat(recreateResponse.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+    }
+
+    @DisplayName("존재하지 않는 지하철역은 제거할 수 없다.")
+    @Test
+    void deleteNotExistingStation() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .delete("/stations/1")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
 }
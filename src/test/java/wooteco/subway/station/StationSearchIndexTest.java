@@ -0,0 +1,55 @@
+package wooteco.subway.station;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철역 검색 색인")
+class StationSearchIndexTest {
+    private StationSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = StationSearchIndex.of(Arrays.asList(
+                new Station(1L, "강남역"),
+                new Station(2L, "강남구청역"),
+                new Station(3L, "강동역"),
+                new Station(4L, "가락시장역"),
+                new Station(5L, "역삼역")));
+    }
+
+    @DisplayName("이름 접두어로 검색한다.")
+    @Test
+    void searchByPrefix() {
+        assertThat(index.search("강남", 10)).extracting(Station::getName)
+                .containsExactly("강남구청역", "강남역");
+    }
+
+    @DisplayName("입력 중인 마지막 음절로도 검색한다.")
+    @Test
+    void searchByComposingSyllable() {
+        assertThat(index.search("강나", 10)).extracting(Station::getName)
+                .containsExactly("강남구청역", "강남역");
+        assertThat(index.search("강ㄷ", 10)).extracting(Station::getName)
+                .containsExactly("강동역");
+    }
+
+    @DisplayName("초성으로 검색한다.")
+    @Test
+    void searchByChoseong() {
+        assertThat(index.search("ㄱㄴ", 10)).extracting(Station::getName)
+                .containsExactly("강남구청역", "강남역");
+        assertThat(index.search("ㅇㅅ", 10)).extracting(Station::getName)
+                .containsExactly("역삼역");
+    }
+
+    @DisplayName("최대 개수만큼만 반환한다.")
+    @Test
+    void searchWithLimit() {
+        assertThat(index.search("ㄱ", 2)).hasSize(2);
+    }
+}